@@ -0,0 +1,64 @@
+package com.example.testuas.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.example.testuas.entity.Book;
+
+/**
+ * Generator data buku yang deterministik untuk benchmark JMH
+ * 
+ * Seed yang sama selalu menghasilkan dataset yang sama,
+ * sehingga hasil antar rilis bisa dibandingkan
+ */
+final class BookDataset {
+
+    static final String[] WORDS = {
+        "java", "spring", "data", "sejarah", "indonesia", "pemrograman", "algoritma", "jaringan",
+        "ekonomi", "manajemen", "fisika", "kimia", "biologi", "sastra", "novel", "puisi",
+        "desain", "arsitektur", "statistika", "matematika", "filsafat", "hukum", "politik", "budaya"
+    };
+
+    static final String[] CATEGORIES = {
+        "Programming", "Fiction", "Science", "History", "Business", "Art", "Education", "Religion"
+    };
+
+    private BookDataset() {
+    }
+
+    /**
+     * Membuat buku ke-index (tanpa ID)
+     */
+    static Book book(Random random, long index, int stockQuantity) {
+        Book book = new Book();
+        book.setTitle(word(random) + " " + word(random) + " " + word(random) + " " + index);
+        book.setAuthor("Penulis " + random.nextInt(5_000));
+        book.setIsbn(String.format("%013d", 9_780_000_000_000L + index));
+        book.setPublicationYear(1950 + random.nextInt(75));
+        book.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        book.setDescription("Buku tentang " + word(random) + " dan " + word(random));
+        book.setStockQuantity(stockQuantity);
+        book.setPrice(10_000.0 + random.nextInt(990) * 1_000);
+        book.setStatus(Book.statusForStock(stockQuantity));
+        return book;
+    }
+
+    /**
+     * Membuat sejumlah buku dengan ID berurutan mulai dari 1
+     */
+    static List<Book> books(long seed, int count) {
+        Random random = new Random(seed);
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Book book = book(random, i, random.nextInt(30));
+            book.setId(i + 1L);
+            books.add(book);
+        }
+        return books;
+    }
+
+    static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
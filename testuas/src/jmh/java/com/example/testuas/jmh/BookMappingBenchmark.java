@@ -0,0 +1,60 @@
+package com.example.testuas.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.entity.Book;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmark mapping entity ke DTO dan serialisasi JSON, tanpa database
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private List<Book> books;
+    private List<BookResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = BookDataset.books(size, size);
+        responses = books.stream().map(BookResponse::fromEntity).toList();
+        // Konfigurasi sama dengan ObjectMapper bawaan Spring Boot (JavaTimeModule, tanpa timestamp numerik)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<BookResponse> fromEntity() {
+        return books.stream().map(BookResponse::fromEntity).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.testuas.jmh;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.service.BookService;
+
+/**
+ * Benchmark jalur baca BookService terhadap dataset 10 ribu, 100 ribu, dan 1 juta buku
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class BookServiceBenchmark {
+
+    /**
+     * Kata kunci acak per thread, diambil dari kosakata dataset
+     */
+    @State(Scope.Thread)
+    public static class Keywords {
+        private final Random random = new Random(42);
+
+        String next() {
+            return BookDataset.word(random);
+        }
+    }
+
+    @Benchmark
+    public List<BookSummary> searchBooks(CatalogState catalog, Keywords keywords) {
+        return catalog.bookService.searchBooks(keywords.next());
+    }
+
+    @Benchmark
+    public List<BookSummary> getAllBooks(CatalogState catalog) {
+        return catalog.bookService.getAllBooks();
+    }
+
+    @Benchmark
+    public BookService.BookStatistics getBookStatistics(CatalogState catalog) {
+        return catalog.bookService.getBookStatistics();
+    }
+}
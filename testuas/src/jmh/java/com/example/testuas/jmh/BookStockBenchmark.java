@@ -0,0 +1,74 @@
+package com.example.testuas.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.testuas.dto.BookResponse;
+
+/**
+ * Benchmark addStock/reduceStock pada buku acak, dan pada satu buku dari 64 thread (flash sale)
+ * 
+ * Stok awal setiap buku CatalogState.INITIAL_STOCK, sehingga reduceStock tidak pernah gagal
+ * selama benchmark berjalan
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class BookStockBenchmark {
+
+    @State(Scope.Thread)
+    public static class Ids {
+        private final Random random = new Random(7);
+        private boolean add;
+    }
+
+    /**
+     * Satu buku yang sama untuk semua thread
+     */
+    @State(Scope.Benchmark)
+    public static class HotBook {
+        long id;
+
+        @Setup(Level.Trial)
+        public void pick(CatalogState catalog) {
+            id = catalog.minId;
+        }
+    }
+
+    @Benchmark
+    public BookResponse addStock(CatalogState catalog, Ids ids) {
+        return catalog.bookService.addStock(catalog.randomId(ids.random), 1);
+    }
+
+    @Benchmark
+    public BookResponse reduceStock(CatalogState catalog, Ids ids) {
+        return catalog.bookService.reduceStock(catalog.randomId(ids.random), 1);
+    }
+
+    /**
+     * Setiap thread bergantian add/reduce pada buku yang sama agar stok tetap stabil
+     */
+    @Benchmark
+    @Threads(64)
+    public BookResponse singleBookContended(CatalogState catalog, HotBook book, Ids ids) {
+        ids.add = !ids.add;
+        return ids.add
+                ? catalog.bookService.addStock(book.id, 1)
+                : catalog.bookService.reduceStock(book.id, 1);
+    }
+}
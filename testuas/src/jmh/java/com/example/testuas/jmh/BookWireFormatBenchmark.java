@@ -0,0 +1,78 @@
+package com.example.testuas.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.testuas.dto.BookResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Membandingkan waktu serialisasi dan ukuran response 10 ribu buku
+ * untuk JSON, CBOR, dan Smile, masing-masing tanpa dan dengan gzip
+ * 
+ * Ukuran byte per format dicetak saat tear down
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookWireFormatBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private List<BookResponse> responses;
+    private ObjectMapper objectMapper;
+    private int lastSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        responses = BookDataset.books(BOOKS, BOOKS).stream().map(BookResponse::fromEntity).toList();
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes, 8192) : bytes) {
+            objectMapper.writeValue(out, responses);
+        }
+        lastSize = bytes.size();
+        return lastSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%nformat=%s gzip=%s books=%d bytes=%d%n", format, gzip, BOOKS, lastSize);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.testuas.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.testuas.TestuasApplication;
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookBulkRepository;
+import com.example.testuas.service.BookService;
+
+/**
+ * Aplikasi Spring lengkap dengan database H2 in-memory yang diisi sejumlah buku
+ * 
+ * - Satu context per trial (per nilai parameter rows)
+ * - Data diisi lewat BookBulkRepository, lalu index in-memory dibangun ulang
+ * - Stok awal dibuat besar agar benchmark reduceStock tidak kehabisan stok
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    static final int INITIAL_STOCK = 1_000_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    BookService bookService;
+    long minId;
+    long maxId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplication(TestuasApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:jmh-" + rows + ";DB_CLOSE_DELAY=-1",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+        seed(context.getBean(BookBulkRepository.class));
+        context.getBean(BookIndexMaintainer.class).rebuild();
+        bookService = context.getBean(BookService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * ID acak yang pasti ada di dataset
+     */
+    long randomId(Random random) {
+        return minId + (long) (random.nextDouble() * (maxId - minId + 1));
+    }
+
+    private void seed(BookBulkRepository repository) {
+        Random random = new Random(rows);
+        List<Book> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        minId = Long.MAX_VALUE;
+        for (int i = 0; i < rows; i++) {
+            batch.add(BookDataset.book(random, i, INITIAL_STOCK));
+            if (batch.size() == SEED_BATCH_SIZE || i == rows - 1) {
+                long[] ids = repository.allocateIds(batch.size());
+                for (int j = 0; j < batch.size(); j++) {
+                    batch.get(j).setId(ids[j]);
+                    minId = Math.min(minId, ids[j]);
+                    maxId = Math.max(maxId, ids[j]);
+                }
+                repository.insertAll(batch);
+                batch.clear();
+            }
+        }
+    }
+}
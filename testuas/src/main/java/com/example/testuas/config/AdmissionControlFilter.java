@@ -0,0 +1,75 @@
+package com.example.testuas.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Membatasi jumlah request API yang diproses bersamaan
+ * 
+ * Dengan virtual thread, Tomcat tidak lagi dibatasi oleh ukuran thread pool,
+ * sehingga ribuan request bisa menunggu koneksi HikariCP sekaligus.
+ * Filter ini menahan request di semaphore (paling lama queueTimeout),
+ * lalu menolak sisanya dengan 503 + Retry-After daripada membiarkannya menumpuk di pool.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long queueTimeoutNanos;
+    private final Counter rejected;
+    
+    public AdmissionControlFilter(int maxConcurrent, Duration queueTimeout, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.rejected = Counter.builder("book.http.admission.rejected")
+                .description("Request yang ditolak karena batas konkurensi penuh")
+                .register(meterRegistry);
+        meterRegistry.gauge("book.http.admission.in-flight", this, AdmissionControlFilter::inFlight);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        
+        if (!acquired) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server sedang sibuk, silakan coba lagi");
+            return;
+        }
+        
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    /**
+     * Jumlah request yang sedang diproses
+     */
+    public double inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.testuas.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Konfigurasi cache in-process untuk entitas buku dan facet count
+ * 
+ * - Caffeine memakai eviction W-TinyLFU dengan batas jumlah entri
+ * - TTL opsional (0 = tanpa kedaluwarsa)
+ * - Cache facets punya batas dan TTL sendiri yang lebih kecil: key berisi versi katalog,
+ *   jadi entri versi lama hanya hilang lewat eviction dan tidak boleh mendesak cache books
+ * - recordStats() aktif agar hit/miss/eviction bisa dipantau
+ * - TransactionAwareCacheManagerProxy menunda put/evict sampai transaksi commit
+ * 
+ * Interceptor cache dipasang di luar interceptor transaksi (order lebih tinggi),
+ * sehingga cache hit tidak membuka transaksi maupun koneksi database.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    
+    public static final String BOOKS_CACHE = "books";
+    
+    /**
+     * Cache facet count per filter, key berisi versi katalog (lihat BookService.getFacets)
+     */
+    public static final String FACETS_CACHE = "facets";
+    
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.books.maximum-size:10000}") long maximumSize,
+                                     @Value("${app.cache.books.ttl:0s}") Duration ttl,
+                                     @Value("${app.cache.facets.maximum-size:500}") long facetsMaximumSize,
+                                     @Value("${app.cache.facets.ttl:5m}") Duration facetsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(BOOKS_CACHE);
+        cacheManager.setCaffeine(caffeine(maximumSize, ttl));
+        cacheManager.registerCustomCache(FACETS_CACHE, caffeine(facetsMaximumSize, facetsTtl).build());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+    
+    private static Caffeine<Object, Object> caffeine(long maximumSize, Duration ttl) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+        if (!ttl.isZero()) {
+            caffeine.expireAfterWrite(ttl);
+        }
+        return caffeine;
+    }
+}
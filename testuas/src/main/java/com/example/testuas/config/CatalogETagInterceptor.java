@@ -0,0 +1,94 @@
+package com.example.testuas.config;
+
+import java.util.Objects;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.example.testuas.index.CatalogVersion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Conditional GET untuk endpoint daftar dan statistik berdasarkan {@link CatalogVersion}
+ *
+ * - ETag dihitung dari versi katalog, header Accept, dan parameter fields, karena JSON/CBOR/Smile
+ *   dan sparse fieldset adalah representasi berbeda dari URL yang sama
+ * - Jika If-None-Match cocok, response 304 dikirim langsung dari interceptor tanpa memanggil
+ *   controller maupun database
+ * - Jika tidak, ETag hanya disimpan di atribut request (versi dibaca sebelum data) dan baru dipasang
+ *   oleh {@link CatalogETagResponseAdvice} jika response 2xx, sehingga error tidak pernah membawa ETag
+ * - Cache-Control: no-cache membuat browser selalu revalidasi dengan If-None-Match,
+ *   Vary: Accept, Accept-Encoding mencegah cache perantara menukar representasi
+ */
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+    /**
+     * Atribut request berisi ETag yang akan dipasang pada response sukses
+     */
+    public static final String ETAG_ATTRIBUTE = CatalogETagInterceptor.class.getName() + ".etag";
+
+    public static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final CatalogVersion catalogVersion;
+
+    public CatalogETagInterceptor(CatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        String etag = catalogVersion.etag(representation(request.getHeader(HttpHeaders.ACCEPT),
+                request.getParameter(FieldsParameterInterceptor.PARAMETER)));
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            applyHeaders(response, etag);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    /**
+     * Memasang ETag, Cache-Control, dan Vary pada response
+     */
+    static void applyHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, VARY);
+    }
+
+    /**
+     * Penanda representasi: hash dari header Accept dan parameter fields (keduanya boleh null)
+     * Dipakai juga oleh ETag per buku di BookController
+     */
+    public static String representation(String accept, String fields) {
+        return Integer.toHexString(Objects.hash(Objects.toString(accept, ""), Objects.toString(fields, "")));
+    }
+
+    /**
+     * Perbandingan lemah If-None-Match (RFC 9110): prefix W/ diabaikan, "*" cocok dengan apa pun
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.testuas.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Memasang ETag katalog yang disiapkan {@link CatalogETagInterceptor} tepat sebelum body ditulis,
+ * hanya jika status response 2xx (status ResponseEntity sudah diterapkan pada titik ini)
+ */
+@ControllerAdvice
+public class CatalogETagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletRequest.getServletRequest().getAttribute(CatalogETagInterceptor.ETAG_ATTRIBUTE)
+                        instanceof String etag) {
+            HttpServletResponse raw = servletResponse.getServletResponse();
+            if (raw.getStatus() >= 200 && raw.getStatus() < 300) {
+                CatalogETagInterceptor.applyHeaders(raw, etag);
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.testuas.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.testuas.service.CatalogGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mengisi database dengan katalog sintetis saat startup (profile "generate")
+ * 
+ * mvn spring-boot:run -Dspring-boot.run.profiles=generate \
+ *     -Dspring-boot.run.arguments="--app.generator.count=1000000 --app.generator.seed=42"
+ * 
+ * Runner jalan sebelum ApplicationReadyEvent, sehingga index in-memory
+ * langsung dibangun dari data hasil generate. Urutan 0 agar jalan sebelum CatalogSnapshotRunner.
+ */
+@Component
+@Profile("generate")
+@Order(0)
+@RequiredArgsConstructor
+public class CatalogGeneratorRunner implements ApplicationRunner {
+    
+    private final CatalogGenerator catalogGenerator;
+    
+    @Value("${app.generator.count:100000}")
+    private int count;
+    
+    @Value("${app.generator.seed:42}")
+    private long seed;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        catalogGenerator.generate(seed, count);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.testuas.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.testuas.service.CatalogSnapshotService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Membuat snapshot katalog saat startup (profile "snapshot", bersama profile "persistent")
+ * 
+ * mvn spring-boot:run -Dspring-boot.run.profiles=persistent,generate,snapshot \
+ *     -Dspring-boot.run.arguments="--app.generator.count=5000000 --app.snapshot.file=./data/snapshot/catalog.zip"
+ * 
+ * Jalan setelah CatalogGeneratorRunner, sehingga katalog hasil generate ikut tersimpan.
+ */
+@Component
+@Profile("snapshot")
+@Order(1)
+@RequiredArgsConstructor
+public class CatalogSnapshotRunner implements ApplicationRunner {
+    
+    private final CatalogSnapshotService catalogSnapshotService;
+    
+    @Value("${app.snapshot.file:./data/snapshot/catalog.zip}")
+    private String file;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        catalogSnapshotService.createSnapshot(Path.of(file));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.testuas.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Menolak parameter ?fields= di endpoint yang tidak mendukung sparse fieldset
+ *
+ * Handler yang mendukung fields punya @RequestParam "fields" (daftar lengkap maupun halaman cursor).
+ * Request lain yang membawa fields (misalnya di /author, /filter, dan /price-range)
+ * dijawab 400 Bad Request, bukan diam-diam mengembalikan semua field.
+ */
+@Slf4j
+public class FieldsParameterInterceptor implements HandlerInterceptor {
+
+    public static final String PARAMETER = "fields";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getParameter(PARAMETER) == null || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        if (acceptsFields(method)) {
+            return true;
+        }
+        log.warn("Rejected fields parameter on {} {}", request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        return false;
+    }
+
+    private static boolean acceptsFields(HandlerMethod method) {
+        for (MethodParameter parameter : method.getMethodParameters()) {
+            RequestParam param = parameter.getParameterAnnotation(RequestParam.class);
+            if (param == null) {
+                continue;
+            }
+            // @RequestParam tanpa nama memakai nama parameter method (dikompilasi dengan -parameters)
+            String name = param.name().isEmpty() ? parameter.getParameter().getName() : param.name();
+            if (PARAMETER.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.testuas.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Format response biner selain JSON, dipilih lewat header Accept (content negotiation)
+ * 
+ * - application/cbor (CBOR, RFC 8949)
+ * - application/x-jackson-smile (Smile)
+ * 
+ * Kedua converter dibangun dari Jackson2ObjectMapperBuilder milik Spring Boot,
+ * sehingga modul dan pengaturan (misalnya format tanggal) sama dengan JSON.
+ */
+@Configuration
+public class JacksonConfig {
+    
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+    
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
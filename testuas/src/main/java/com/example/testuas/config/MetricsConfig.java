@@ -0,0 +1,24 @@
+package com.example.testuas.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Konfigurasi metrik Micrometer
+ * 
+ * - TimedAspect memproses @Timed pada service (timer "book.service" per method)
+ * - Timer endpoint (http.server.requests), repository (book.repository.query) dan
+ *   pool koneksi (hikaricp.connections.acquire) diatur lewat application.properties
+ * - Semua metrik tersedia di /actuator/metrics dan /actuator/prometheus
+ */
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
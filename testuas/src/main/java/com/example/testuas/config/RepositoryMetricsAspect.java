@@ -0,0 +1,111 @@
+package com.example.testuas.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mengukur setiap query repository
+ * 
+ * - Timer "book.repository.query" dengan tag repository, method, dan outcome
+ * - Distribution summary "book.repository.rows" berisi jumlah baris yang dikembalikan
+ *   (hanya untuk hasil berupa Collection, array, Optional, Slice, atau entitas tunggal)
+ * 
+ * Berlaku untuk repository Spring Data (BookRepository) maupun repository JDBC di package repository
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+    
+    private static final String REPOSITORY_PACKAGE = "com.example.testuas.repository";
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Around("within(com.example.testuas.repository..*) || target(com.example.testuas.repository.BookRepository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint.getTarget().getClass());
+        String method = joinPoint.getSignature().getName();
+        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        try {
+            Object result = joinPoint.proceed();
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder("book.repository.rows")
+                        .description("Jumlah baris yang dikembalikan per query repository")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("book.repository.query")
+                    .description("Waktu eksekusi query repository")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * Nama interface repository milik aplikasi (bukan nama class proxy/SimpleJpaRepository)
+     */
+    private String repositoryName(Class<?> targetClass) {
+        return repositoryNames.computeIfAbsent(targetClass, type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (candidate.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return ClassUtils.getUserClass(type).getSimpleName();
+        });
+    }
+    
+    /**
+     * Jumlah baris dari hasil query, -1 jika tidak bisa dihitung (misalnya Stream atau void)
+     */
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Object[] array) {
+            return array.length;
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result != null && result.getClass().getPackageName().startsWith("com.example.testuas.")) {
+            return 1;
+        }
+        return -1;
+    }
+}
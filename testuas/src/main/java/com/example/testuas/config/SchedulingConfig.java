@@ -0,0 +1,12 @@
+package com.example.testuas.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Mengaktifkan @Scheduled untuk job berkala (misalnya rekonsiliasi statistik)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
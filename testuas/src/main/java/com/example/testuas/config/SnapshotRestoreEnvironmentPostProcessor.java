@@ -0,0 +1,45 @@
+package com.example.testuas.config;
+
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.util.StringUtils;
+
+import com.example.testuas.service.CatalogSnapshotService;
+
+/**
+ * Restore snapshot katalog sebelum DataSource dibuat
+ * 
+ * Aktif jika properti app.snapshot.restore berisi path file zip, misalnya:
+ * mvn spring-boot:run -Dspring-boot.run.profiles=persistent \
+ *     -Dspring-boot.run.arguments="--app.snapshot.restore=./data/snapshot/catalog.zip"
+ * 
+ * File database pada spring.datasource.url ditimpa isi snapshot, jadi properti ini
+ * sebaiknya hanya diberikan sebagai argumen untuk satu kali startup.
+ * Didaftarkan lewat META-INF/spring.factories.
+ */
+public class SnapshotRestoreEnvironmentPostProcessor implements EnvironmentPostProcessor {
+    
+    private final Log log;
+    
+    public SnapshotRestoreEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(SnapshotRestoreEnvironmentPostProcessor.class);
+    }
+    
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String snapshot = environment.getProperty("app.snapshot.restore");
+        if (!StringUtils.hasText(snapshot)) {
+            return;
+        }
+        String url = environment.getProperty("spring.datasource.url");
+        long start = System.nanoTime();
+        CatalogSnapshotService.restore(Path.of(snapshot), url);
+        log.info("Restored catalog snapshot " + snapshot + " into " + url + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
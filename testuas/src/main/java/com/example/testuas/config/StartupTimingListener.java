@@ -0,0 +1,37 @@
+package com.example.testuas.config;
+
+import java.lang.management.ManagementFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.testuas.repository.BookRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Melaporkan waktu startup sampai aplikasi siap melayani request
+ * 
+ * Dihitung dari start JVM, sehingga mencakup restore snapshot, inisialisasi schema,
+ * validasi Hibernate, dan rebuild index in-memory (yang berjalan lebih dulu pada ApplicationReadyEvent).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StartupTimingListener {
+    
+    private final BookRepository bookRepository;
+    
+    @Value("${spring.datasource.url}")
+    private String datasourceUrl;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        log.info("Application ready in {} ms since JVM start ({} ms in SpringApplication.run) with {} books on {}",
+                ManagementFactory.getRuntimeMXBean().getUptime(), event.getTimeTaken().toMillis(),
+                bookRepository.count(), datasourceUrl);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.testuas.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Konfigurasi konkurensi layer web
+ * 
+ * Mode eksekusi dipilih lewat spring.threads.virtual.enabled:
+ * - false: request diproses thread pool platform Tomcat (server.tomcat.threads.max)
+ * - true: setiap request (juga ekspor streaming async dan job @Scheduled) berjalan di virtual thread
+ * 
+ * AdmissionControlFilter dipasang untuk /api/* di kedua mode agar jumlah request
+ * yang menunggu koneksi database tetap terkendali:
+ * - Batas request bersamaan diturunkan dari ukuran pool Hikari (maximum-pool-size x requests-per-connection),
+ *   kecuali app.web.admission.max-concurrent diisi eksplisit dengan nilai hasil pengukuran
+ * - queue-timeout harus lebih pendek dari connection-timeout pool, sehingga request yang berlebih ditolak
+ *   cepat di filter (503 + Retry-After) alih-alih menunggu koneksi sampai timeout di repository
+ */
+@Slf4j
+@Configuration
+public class WebConcurrencyConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.web.admission.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            @Value("${app.web.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${app.web.admission.requests-per-connection:2}") int requestsPerConnection,
+            @Value("${app.web.admission.queue-timeout:1s}") Duration queueTimeout,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMs,
+            MeterRegistry meterRegistry) {
+        if (queueTimeout.toMillis() >= connectionTimeoutMs) {
+            throw new IllegalArgumentException("app.web.admission.queue-timeout (" + queueTimeout
+                    + ") harus lebih pendek dari spring.datasource.hikari.connection-timeout (" + connectionTimeoutMs + " ms)");
+        }
+        int limit = maxConcurrent > 0 ? maxConcurrent : poolSize * requestsPerConnection;
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Batas admission control harus lebih dari 0");
+        }
+        log.info("Admission control for /api/*: {} concurrent requests (pool size {}), queue timeout {}",
+                limit, poolSize, queueTimeout);
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(limit, queueTimeout, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
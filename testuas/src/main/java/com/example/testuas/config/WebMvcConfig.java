@@ -0,0 +1,43 @@
+package com.example.testuas.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.testuas.index.CatalogVersion;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Konfigurasi Spring MVC
+ * 
+ * ETag versi katalog dipasang di endpoint daftar dan statistik.
+ * Parameter ?fields= ditolak di endpoint yang tidak mendukungnya (dicek sebelum ETag).
+ * GET /api/books/{id} memakai ETag per buku (updatedAt) langsung di BookController.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    private final CatalogVersion catalogVersion;
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new FieldsParameterInterceptor())
+                .addPathPatterns("/api/books/**");
+        registry.addInterceptor(new CatalogETagInterceptor(catalogVersion))
+                .addPathPatterns(
+                        "/api/books",
+                        "/api/books/search",
+                        "/api/books/title/**",
+                        "/api/books/author/**",
+                        "/api/books/category/**",
+                        "/api/books/status/**",
+                        "/api/books/low-stock",
+                        "/api/books/facets",
+                        "/api/books/filter",
+                        "/api/books/price-range",
+                        "/api/books/year-range",
+                        "/api/books/statistics");
+    }
+}
@@ -1,24 +1,50 @@
 package com.example.testuas.controller;
 
+import java.io.InputStream;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.testuas.config.CatalogETagInterceptor;
+import com.example.testuas.dto.BookChangePage;
+import com.example.testuas.dto.BookFacets;
+import com.example.testuas.dto.BookFieldSet;
+import com.example.testuas.dto.BookFilter;
 import com.example.testuas.dto.BookRequest;
 import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.dto.CursorPage;
+import com.example.testuas.dto.ImportReport;
+import com.example.testuas.dto.StatisticsDriftReport;
+import com.example.testuas.dto.StockAdjustmentRequest;
+import com.example.testuas.dto.StockAdjustmentResult;
 import com.example.testuas.entity.Book;
+import com.example.testuas.service.BookChangeFeed;
+import com.example.testuas.service.BookExportService;
+import com.example.testuas.service.BookImportService;
 import com.example.testuas.service.BookService;
+import com.example.testuas.service.LowStockAlertPublisher;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +76,10 @@ import lombok.extern.slf4j.Slf4j;
 public class BookController {
     
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final BookImportService bookImportService;
+    private final BookChangeFeed bookChangeFeed;
+    private final LowStockAlertPublisher lowStockAlertPublisher;
     
     /**
      * POST /api/books - Menambah buku baru
@@ -80,15 +110,39 @@ public class BookController {
         }
     }
     
+    /**
+     * POST /api/books/import?format=json|csv - Bulk import buku
+     * Body dibaca secara streaming: array JSON BookRequest atau CSV dengan baris header
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportReport> importBooks(@RequestParam(defaultValue = "json") String format,
+                                                    InputStream body) {
+        log.info("Received request to import books as {}", format);
+        
+        try {
+            ImportReport report = bookImportService.importBooks(BookImportService.ImportFormat.parse(format), body);
+            log.info("Imported {} books, rejected {}", report.getImported(), report.getRejected());
+            
+            return ResponseEntity.ok(report);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to import books: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while importing books: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * GET /api/books - Mengambil semua buku
      */
     @GetMapping
-    public ResponseEntity<List<BookResponse>> getAllBooks() {
+    public ResponseEntity<List<BookSummary>> getAllBooks() {
         log.info("Received request to get all books");
         
         try {
-            List<BookResponse> books = bookService.getAllBooks();
+            List<BookSummary> books = bookService.getAllBooks();
             log.info("Retrieved {} books", books.size());
             
             // HTTP 200 OK - Request berhasil
@@ -100,18 +154,156 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books?fields={fields} - Mengambil semua buku, hanya field yang diminta
+     */
+    @GetMapping(params = {"fields", "!limit", "!after"})
+    public ResponseEntity<List<Map<String, Object>>> getAllBooksWithFields(@RequestParam String fields) {
+        log.info("Received request to get all books with fields: {}", fields);
+        
+        BookFieldSet fieldSet;
+        try {
+            fieldSet = BookFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields parameter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            List<Map<String, Object>> books = bookService.getAllBooks(fieldSet);
+            log.info("Found {} books with fields: {}", books.size(), fieldSet.names());
+            
+            return ResponseEntity.ok(books);
+            
+        } catch (Exception e) {
+            log.error("Error while fetching all books with fields: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books?limit={limit}&after={cursor} - Mengambil buku per halaman (pagination cursor)
+     * Dengan ?fields= item halaman hanya berisi field yang diminta (kolom lain tidak di-SELECT)
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<?>> getBooksPage(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        log.info("Received request to get books page after cursor: {}", after);
+        
+        try {
+            CursorPage<?> page = fields != null
+                    ? bookService.getBooksPage(after, limit, BookFieldSet.parse(fields))
+                    : bookService.getBooksPage(after, limit);
+            log.info("Retrieved {} books", page.getSize());
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching books page: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books?after={cursor} - Halaman berikutnya tanpa limit, memakai limit default
+     */
+    @GetMapping(params = {"after", "!limit"})
+    public ResponseEntity<CursorPage<?>> getBooksPageAfter(@RequestParam String after,
+            @RequestParam(required = false) String fields) {
+        return getBooksPage(after, null, fields);
+    }
+    
+    /**
+     * GET /api/books/export?format=ndjson|csv - Mengekspor seluruh katalog secara streaming
+     * Setiap baris langsung ditulis ke response tanpa membangun List terlebih dahulu
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(@RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Received request to export books as {}", format);
+        
+        try {
+            BookExportService.ExportFormat exportFormat = BookExportService.ExportFormat.parse(format);
+            StreamingResponseBody body = out -> bookExportService.exportBooks(exportFormat, out);
+            
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"books." + exportFormat.getExtension() + "\"")
+                    .body(body);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to export books: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * GET /api/books/changes?since={sequence}&limit={limit} - Perubahan katalog setelah sequence tertentu
+     * Tanpa since hanya mengembalikan latestSequence (titik awal sebelum memuat data penuh).
+     * resyncRequired = true jika since sudah di luar retensi: muat ulang data penuh lalu lanjut dari latestSequence
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<BookChangePage> getChanges(@RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request to get changes since sequence: {}", since);
+        
+        try {
+            BookChangePage page = bookChangeFeed.since(since, limit);
+            return ResponseEntity.ok(page);
+            
+        } catch (Exception e) {
+            log.error("Error while fetching changes: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/changes/stream?since={sequence} - Change feed lewat Server-Sent Events
+     * Nama event = jenis perubahan (CREATED, UPDATED, DELETED, STOCK_CHANGED), id = sequence.
+     * EventSource melanjutkan otomatis dengan header Last-Event-ID saat koneksi tersambung ulang.
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since) {
+        log.info("Received request to stream changes after sequence: {}", lastEventId != null ? lastEventId : since);
+        return bookChangeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+    
     /**
      * GET /api/books/{id} - Mengambil buku berdasarkan ID
+     * 
+     * ETag kuat dibuat dari ID + updatedAt + header Accept, karena JSON/CBOR/Smile adalah body berbeda;
+     * Vary: Accept mencegah cache menukar representasi. Buku diambil lewat cache "books",
+     * jadi If-None-Match yang cocok dijawab 304 tanpa query database saat cache hit.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BookResponse> getBookById(@PathVariable Long id) {
+    public ResponseEntity<BookResponse> getBookById(@PathVariable Long id, WebRequest webRequest) {
         log.info("Received request to get book with ID: {}", id);
         
         try {
             BookResponse book = bookService.getBookById(id);
+            String etag = bookETag(book, webRequest.getHeader(HttpHeaders.ACCEPT));
+            long lastModified = book.getUpdatedAt() != null
+                    ? book.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : -1;
+            if (webRequest.checkNotModified(etag, lastModified)) {
+                log.info("Book {} not modified", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
             log.info("Retrieved book: {}", book.getTitle());
             
-            return ResponseEntity.ok(book);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .body(book);
             
         } catch (IllegalArgumentException e) {
             log.error("Book not found with ID: {}", id);
@@ -123,6 +315,36 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books/{id}?fields={fields} - Mengambil buku berdasarkan ID, hanya field yang diminta
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getBookByIdWithFields(@PathVariable Long id, @RequestParam String fields) {
+        log.info("Received request to get book with ID: {} and fields: {}", id, fields);
+        
+        BookFieldSet fieldSet;
+        try {
+            fieldSet = BookFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields parameter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            Map<String, Object> book = bookService.getBookById(id, fieldSet);
+            log.info("Retrieved book {} with fields: {}", id, fieldSet.names());
+            
+            return ResponseEntity.ok(book);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Book not found with ID: {}", id);
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("Error while fetching book with fields: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * PUT /api/books/{id} - Mengupdate buku berdasarkan ID
      */
@@ -173,11 +395,11 @@ public class BookController {
      * GET /api/books/search?keyword={keyword} - Mencari buku berdasarkan keyword
      */
     @GetMapping("/search")
-    public ResponseEntity<List<BookResponse>> searchBooks(@RequestParam String keyword) {
+    public ResponseEntity<List<BookSummary>> searchBooks(@RequestParam String keyword) {
         log.info("Received request to search books with keyword: {}", keyword);
         
         try {
-            List<BookResponse> books = bookService.searchBooks(keyword);
+            List<BookSummary> books = bookService.searchBooks(keyword);
             log.info("Found {} books matching keyword: {}", books.size(), keyword);
             
             return ResponseEntity.ok(books);
@@ -188,6 +410,34 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books/search?keyword={keyword}&fields={fields} - Mencari buku berdasarkan keyword, hanya field yang diminta
+     */
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> searchBooksWithFields(@RequestParam String keyword,
+            @RequestParam String fields) {
+        log.info("Received request to search books with fields: {}", fields);
+        
+        BookFieldSet fieldSet;
+        try {
+            fieldSet = BookFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields parameter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            List<Map<String, Object>> books = bookService.searchBooks(keyword, fieldSet);
+            log.info("Found {} books with fields: {}", books.size(), fieldSet.names());
+            
+            return ResponseEntity.ok(books);
+            
+        } catch (Exception e) {
+            log.error("Error while searching books with fields: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * GET /api/books/title/{title} - Mencari buku berdasarkan judul
      */
@@ -226,15 +476,68 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books/author/{author}?limit={limit}&after={cursor} - Mencari buku berdasarkan penulis per halaman
+     */
+    @GetMapping(value = "/author/{author}", params = "limit")
+    public ResponseEntity<CursorPage<BookSummary>> getBooksByAuthorPage(@PathVariable String author,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request to get books page by author: {} after cursor: {}", author, after);
+        
+        try {
+            CursorPage<BookSummary> page = bookService.getBooksByAuthorPage(author, after, limit);
+            log.info("Found {} books by author: {}", page.getSize(), author);
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching books by author page: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/author/{author}?after={cursor} - Halaman berikutnya tanpa limit, memakai limit default
+     */
+    @GetMapping(value = "/author/{author}", params = {"after", "!limit"})
+    public ResponseEntity<CursorPage<BookSummary>> getBooksByAuthorPageAfter(@PathVariable String author,
+            @RequestParam String after) {
+        return getBooksByAuthorPage(author, after, null);
+    }
+    
+    /**
+     * GET /api/books/title/{title}/author/{author} - Mencari buku berdasarkan judul dan penulis
+     */
+    @GetMapping("/title/{title}/author/{author}")
+    public ResponseEntity<List<BookResponse>> getBooksByTitleAndAuthor(@PathVariable String title,
+                                                                       @PathVariable String author) {
+        log.info("Received request to get books by title: {} and author: {}", title, author);
+        
+        try {
+            List<BookResponse> books = bookService.getBooksByTitleAndAuthor(title, author);
+            log.info("Found {} books with title: {} and author: {}", books.size(), title, author);
+            
+            return ResponseEntity.ok(books);
+            
+        } catch (Exception e) {
+            log.error("Error while fetching books by title and author: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * GET /api/books/category/{category} - Mencari buku berdasarkan kategori
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<BookResponse>> getBooksByCategory(@PathVariable String category) {
+    public ResponseEntity<List<BookSummary>> getBooksByCategory(@PathVariable String category) {
         log.info("Received request to get books by category: {}", category);
         
         try {
-            List<BookResponse> books = bookService.getBooksByCategory(category);
+            List<BookSummary> books = bookService.getBooksByCategory(category);
             log.info("Found {} books in category: {}", books.size(), category);
             
             return ResponseEntity.ok(books);
@@ -245,15 +548,81 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books/category/{category}?fields={fields} - Mencari buku berdasarkan kategori, hanya field yang diminta
+     */
+    @GetMapping(value = "/category/{category}", params = {"fields", "!limit", "!after"})
+    public ResponseEntity<List<Map<String, Object>>> getBooksByCategoryWithFields(@PathVariable String category,
+            @RequestParam String fields) {
+        log.info("Received request to get books by category with fields: {}", fields);
+        
+        BookFieldSet fieldSet;
+        try {
+            fieldSet = BookFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields parameter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            List<Map<String, Object>> books = bookService.getBooksByCategory(category, fieldSet);
+            log.info("Found {} books with fields: {}", books.size(), fieldSet.names());
+            
+            return ResponseEntity.ok(books);
+            
+        } catch (Exception e) {
+            log.error("Error while fetching books by category with fields: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/category/{category}?limit={limit}&after={cursor} - Mencari buku berdasarkan kategori per halaman
+     * Dengan ?fields= item halaman hanya berisi field yang diminta (kolom lain tidak di-SELECT)
+     */
+    @GetMapping(value = "/category/{category}", params = "limit")
+    public ResponseEntity<CursorPage<?>> getBooksByCategoryPage(@PathVariable String category,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        log.info("Received request to get books page by category: {} after cursor: {}", category, after);
+        
+        try {
+            CursorPage<?> page = fields != null
+                    ? bookService.getBooksByCategoryPage(category, after, limit, BookFieldSet.parse(fields))
+                    : bookService.getBooksByCategoryPage(category, after, limit);
+            log.info("Found {} books in category: {}", page.getSize(), category);
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching books by category page: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/category/{category}?after={cursor} - Halaman berikutnya tanpa limit, memakai limit default
+     */
+    @GetMapping(value = "/category/{category}", params = {"after", "!limit"})
+    public ResponseEntity<CursorPage<?>> getBooksByCategoryPageAfter(@PathVariable String category,
+            @RequestParam String after,
+            @RequestParam(required = false) String fields) {
+        return getBooksByCategoryPage(category, after, null, fields);
+    }
+    
     /**
      * GET /api/books/status/{status} - Mencari buku berdasarkan status
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<BookResponse>> getBooksByStatus(@PathVariable Book.BookStatus status) {
+    public ResponseEntity<List<BookSummary>> getBooksByStatus(@PathVariable Book.BookStatus status) {
         log.info("Received request to get books by status: {}", status);
         
         try {
-            List<BookResponse> books = bookService.getBooksByStatus(status);
+            List<BookSummary> books = bookService.getBooksByStatus(status);
             log.info("Found {} books with status: {}", books.size(), status);
             
             return ResponseEntity.ok(books);
@@ -264,15 +633,81 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books/status/{status}?fields={fields} - Mencari buku berdasarkan status, hanya field yang diminta
+     */
+    @GetMapping(value = "/status/{status}", params = {"fields", "!limit", "!after"})
+    public ResponseEntity<List<Map<String, Object>>> getBooksByStatusWithFields(@PathVariable Book.BookStatus status,
+            @RequestParam String fields) {
+        log.info("Received request to get books by status with fields: {}", fields);
+        
+        BookFieldSet fieldSet;
+        try {
+            fieldSet = BookFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields parameter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            List<Map<String, Object>> books = bookService.getBooksByStatus(status, fieldSet);
+            log.info("Found {} books with fields: {}", books.size(), fieldSet.names());
+            
+            return ResponseEntity.ok(books);
+            
+        } catch (Exception e) {
+            log.error("Error while fetching books by status with fields: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/status/{status}?limit={limit}&after={cursor} - Mencari buku berdasarkan status per halaman
+     * Dengan ?fields= item halaman hanya berisi field yang diminta (kolom lain tidak di-SELECT)
+     */
+    @GetMapping(value = "/status/{status}", params = "limit")
+    public ResponseEntity<CursorPage<?>> getBooksByStatusPage(@PathVariable Book.BookStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        log.info("Received request to get books page by status: {} after cursor: {}", status, after);
+        
+        try {
+            CursorPage<?> page = fields != null
+                    ? bookService.getBooksByStatusPage(status, after, limit, BookFieldSet.parse(fields))
+                    : bookService.getBooksByStatusPage(status, after, limit);
+            log.info("Found {} books with status: {}", page.getSize(), status);
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching books by status page: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/status/{status}?after={cursor} - Halaman berikutnya tanpa limit, memakai limit default
+     */
+    @GetMapping(value = "/status/{status}", params = {"after", "!limit"})
+    public ResponseEntity<CursorPage<?>> getBooksByStatusPageAfter(@PathVariable Book.BookStatus status,
+            @RequestParam String after,
+            @RequestParam(required = false) String fields) {
+        return getBooksByStatusPage(status, after, null, fields);
+    }
+    
     /**
      * GET /api/books/low-stock - Mencari buku dengan stok rendah
      */
     @GetMapping("/low-stock")
-    public ResponseEntity<List<BookResponse>> getBooksWithLowStock() {
+    public ResponseEntity<List<BookSummary>> getBooksWithLowStock() {
         log.info("Received request to get books with low stock");
         
         try {
-            List<BookResponse> books = bookService.getBooksWithLowStock();
+            List<BookSummary> books = bookService.getBooksWithLowStock();
             log.info("Found {} books with low stock", books.size());
             
             return ResponseEntity.ok(books);
@@ -283,6 +718,79 @@ public class BookController {
         }
     }
     
+    /**
+     * GET /api/books/low-stock?fields={fields} - Mencari buku dengan stok rendah, hanya field yang diminta
+     */
+    @GetMapping(value = "/low-stock", params = {"fields", "!limit", "!after"})
+    public ResponseEntity<List<Map<String, Object>>> getBooksWithLowStockWithFields(@RequestParam String fields) {
+        log.info("Received request to get low stock books with fields: {}", fields);
+        
+        BookFieldSet fieldSet;
+        try {
+            fieldSet = BookFieldSet.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields parameter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            List<Map<String, Object>> books = bookService.getBooksWithLowStock(fieldSet);
+            log.info("Found {} books with fields: {}", books.size(), fieldSet.names());
+            
+            return ResponseEntity.ok(books);
+            
+        } catch (Exception e) {
+            log.error("Error while fetching low stock books with fields: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/low-stock?limit={limit}&after={cursor} - Mencari buku dengan stok rendah per halaman
+     * Dengan ?fields= item halaman hanya berisi field yang diminta (kolom lain tidak di-SELECT)
+     */
+    @GetMapping(value = "/low-stock", params = "limit")
+    public ResponseEntity<CursorPage<?>> getBooksWithLowStockPage(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        log.info("Received request to get low stock books page after cursor: {}", after);
+        
+        try {
+            CursorPage<?> page = fields != null
+                    ? bookService.getBooksWithLowStockPage(after, limit, BookFieldSet.parse(fields))
+                    : bookService.getBooksWithLowStockPage(after, limit);
+            log.info("Found {} books with low stock", page.getSize());
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching low stock books page: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/low-stock?after={cursor} - Halaman berikutnya tanpa limit, memakai limit default
+     */
+    @GetMapping(value = "/low-stock", params = {"after", "!limit"})
+    public ResponseEntity<CursorPage<?>> getBooksWithLowStockPageAfter(@RequestParam String after,
+            @RequestParam(required = false) String fields) {
+        return getBooksWithLowStockPage(after, null, fields);
+    }
+    
+    /**
+     * GET /api/books/low-stock/alerts - Notifikasi stok rendah lewat Server-Sent Events
+     * Event LOW_STOCK saat stok turun ke threshold kategorinya, RESTOCKED saat kembali di atasnya
+     */
+    @GetMapping(value = "/low-stock/alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowStockAlerts() {
+        log.info("Received request to stream low stock alerts");
+        return lowStockAlertPublisher.subscribe();
+    }
+    
     /**
      * POST /api/books/{id}/add-stock - Menambah stok buku
      */
@@ -329,6 +837,130 @@ public class BookController {
         }
     }
     
+    /**
+     * POST /api/books/stock/batch - Menyesuaikan stok banyak buku sekaligus
+     * Body: [{"id": 1, "delta": 5}, {"id": 2, "delta": -3}]
+     * Hasil dikembalikan per item, item yang gagal tidak membatalkan item lain
+     */
+    @PostMapping("/stock/batch")
+    public ResponseEntity<List<StockAdjustmentResult>> adjustStockBatch(
+            @RequestBody List<StockAdjustmentRequest> adjustments) {
+        log.info("Received request to adjust stock for {} items", adjustments.size());
+        
+        try {
+            List<StockAdjustmentResult> results = bookService.adjustStockBatch(adjustments);
+            return ResponseEntity.ok(results);
+            
+        } catch (Exception e) {
+            log.error("Error while adjusting stock batch: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/filter?status={status}&category={category}&yearFrom={year}&maxStock={stock}&limit={limit}
+     * Filter gabungan (OR dalam satu kriteria, AND antar kriteria, exclude sebagai NOT) dengan pagination cursor
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<CursorPage<BookSummary>> filterBooks(@ModelAttribute BookFilter filter,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request to filter books: {} after cursor: {}", filter, after);
+        
+        try {
+            CursorPage<BookSummary> page = bookService.filterBooks(filter, after, limit);
+            log.info("Filtered {} books", page.getSize());
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid filter request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while filtering books: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/price-range?min={min}&max={max}&sort={asc|desc}&after={cursor}&limit={limit}
+     * Buku dalam range harga (inklusif), urut harga dengan pagination cursor
+     */
+    @GetMapping("/price-range")
+    public ResponseEntity<CursorPage<BookSummary>> getBooksByPriceRange(
+            @RequestParam(required = false) Double min,
+            @RequestParam(required = false) Double max,
+            @RequestParam(required = false, defaultValue = "asc") String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request to get books with price between {} and {} sorted {}", min, max, sort);
+        
+        try {
+            CursorPage<BookSummary> page = bookService.getBooksByPriceRange(min, max, sort, after, limit);
+            log.info("Found {} books in price range", page.getSize());
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid price range request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching books by price range: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/year-range?from={year}&to={year}&sort={asc|desc}&after={cursor}&limit={limit}
+     * Buku dalam range tahun terbit (inklusif), urut tahun dengan pagination cursor
+     * Buku terbaru: /api/books/year-range?from=2020&sort=desc
+     */
+    @GetMapping("/year-range")
+    public ResponseEntity<CursorPage<BookSummary>> getBooksByYearRange(
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer to,
+            @RequestParam(required = false, defaultValue = "desc") String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request to get books published between {} and {} sorted {}", from, to, sort);
+        
+        try {
+            CursorPage<BookSummary> page = bookService.getBooksByYearRange(from, to, sort, after, limit);
+            log.info("Found {} books in year range", page.getSize());
+            
+            return ResponseEntity.ok(page);
+            
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid year range request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error while fetching books by year range: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/facets?category={category}&status={status}&keyword={keyword}
+     * Jumlah buku per kategori, status, dekade terbit, dan rentang harga (semua filter opsional)
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<BookFacets> getFacets(@RequestParam(required = false) String category,
+            @RequestParam(required = false) Book.BookStatus status,
+            @RequestParam(required = false) String keyword) {
+        log.info("Received request to get facets: category={}, status={}, keyword={}", category, status, keyword);
+        
+        try {
+            BookFacets facets = bookService.getFacets(blankToNull(category), status, blankToNull(keyword));
+            log.info("Counted facets for {} books", facets.getTotal());
+            
+            return ResponseEntity.ok(facets);
+            
+        } catch (Exception e) {
+            log.error("Error while counting facets: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * GET /api/books/statistics - Mendapatkan statistik buku
      */
@@ -348,4 +980,72 @@ public class BookController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * POST /api/books/statistics/reconcile - Membandingkan statistik in-memory dengan database
+     */
+    @PostMapping("/statistics/reconcile")
+    public ResponseEntity<StatisticsDriftReport> reconcileStatistics() {
+        log.info("Received request to reconcile book statistics");
+        
+        try {
+            StatisticsDriftReport report = bookService.reconcileStatistics();
+            log.info("Statistics reconciliation consistent: {}", report.isConsistent());
+            
+            return ResponseEntity.ok(report);
+            
+        } catch (Exception e) {
+            log.error("Error while reconciling book statistics: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * GET /api/books/statistics/drift - Hasil rekonsiliasi statistik terakhir
+     */
+    @GetMapping("/statistics/drift")
+    public ResponseEntity<StatisticsDriftReport> getStatisticsDrift() {
+        log.info("Received request to get last statistics drift report");
+        
+        StatisticsDriftReport report = bookService.getLastStatisticsDrift();
+        if (report == null) {
+            // HTTP 204 No Content - Rekonsiliasi belum pernah dijalankan
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+    
+    /**
+     * GET /api/books/cache-statistics - Mendapatkan statistik cache buku (hit/miss/eviction)
+     */
+    @GetMapping("/cache-statistics")
+    public ResponseEntity<BookService.CacheStatistics> getCacheStatistics() {
+        log.info("Received request to get cache statistics");
+        
+        try {
+            return ResponseEntity.ok(bookService.getCacheStatistics());
+            
+        } catch (Exception e) {
+            log.error("Error while fetching cache statistics: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * ETag kuat per buku: ID dan updatedAt, atau hash isi jika updatedAt kosong
+     */
+    private static String bookETag(BookResponse book, String accept) {
+        String version = book.getUpdatedAt() != null
+                ? book.getUpdatedAt().toString()
+                : Integer.toHexString(book.hashCode());
+        return "\"book-" + book.getId() + "-" + version + "-"
+                + CatalogETagInterceptor.representation(accept, null) + "\"";
+    }
+    
+    /**
+     * Parameter filter opsional: string kosong dianggap tidak diisi
+     */
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.testuas.dto;
+
+import java.time.Instant;
+
+/**
+ * Satu event pada change feed katalog
+ * 
+ * sequence naik monoton dan dipakai sebagai cursor (?since=) maupun id SSE (Last-Event-ID).
+ * book berisi kondisi buku setelah perubahan, null untuk DELETED.
+ */
+public record BookChangeEvent(
+        long sequence,
+        Type type,
+        Long bookId,
+        BookSummary book,
+        Instant occurredAt) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /**
+         * Hanya stok (dan status turunannya) yang berubah
+         */
+        STOCK_CHANGED
+    }
+}
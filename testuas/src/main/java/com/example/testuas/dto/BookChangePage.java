@@ -0,0 +1,27 @@
+package com.example.testuas.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO untuk GET /api/books/changes?since={sequence}
+ * 
+ * - events: event dengan sequence > since, urut naik
+ * - latestSequence: sequence terakhir yang dikembalikan, dipakai sebagai since berikutnya
+ * - resyncRequired: since sudah keluar dari retensi change feed (atau berasal dari proses sebelumnya),
+ *   client harus memuat ulang data penuh lalu melanjutkan dari latestSequence
+ * - hasMore: masih ada event setelah latestSequence (melebihi limit)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookChangePage {
+    
+    private List<BookChangeEvent> events;
+    private long latestSequence;
+    private boolean resyncRequired;
+    private boolean hasMore;
+}
@@ -0,0 +1,28 @@
+package com.example.testuas.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO jumlah buku per nilai filter (facet) untuk UI katalog
+ * 
+ * - categories: per kategori, urut dari jumlah terbanyak
+ * - statuses: per status (semua status, termasuk yang 0)
+ * - decades: per dekade tahun terbit, misalnya "1990" untuk 1990-1999
+ * - priceRanges: per rentang harga, misalnya "50000-100000" dan "500000+"
+ * Buku tanpa kategori/tahun/harga hanya dihitung di total.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacets {
+    
+    private long total;
+    private Map<String, Long> categories;
+    private Map<String, Long> statuses;
+    private Map<String, Long> decades;
+    private Map<String, Long> priceRanges;
+}
@@ -0,0 +1,99 @@
+package com.example.testuas.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Daftar field buku yang diminta client lewat parameter ?fields= (sparse fieldset)
+ * 
+ * - Nama field sama dengan nama properti JSON BookResponse (dan properti entitas Book)
+ * - Field disimpan sebagai bitmask, sehingga kombinasi field yang sama selalu menghasilkan
+ *   kunci yang sama untuk cache bentuk query
+ * - Nama yang tidak dikenal langsung ditolak sebelum menyentuh database
+ */
+public final class BookFieldSet {
+    
+    /**
+     * Semua field yang bisa dipilih, urutan ini juga urutan field di output JSON
+     */
+    public static final List<String> FIELDS = List.of(
+            "id", "title", "author", "isbn", "publicationYear", "category", "description",
+            "stockQuantity", "price", "status", "createdAt", "updatedAt");
+    
+    private static final Map<String, Integer> POSITIONS = Stream.iterate(0, i -> i + 1)
+            .limit(FIELDS.size())
+            .collect(Collectors.toUnmodifiableMap(FIELDS::get, Function.identity()));
+    
+    /**
+     * Batas panjang parameter fields, string yang lebih panjang pasti berisi field tidak dikenal
+     */
+    private static final int MAX_LENGTH = 256;
+    
+    private final int mask;
+    private final List<String> names;
+    
+    private BookFieldSet(int mask) {
+        this.mask = mask;
+        List<String> selected = new ArrayList<>(Integer.bitCount(mask));
+        for (int i = 0; i < FIELDS.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                selected.add(FIELDS.get(i));
+            }
+        }
+        this.names = Collections.unmodifiableList(selected);
+    }
+    
+    /**
+     * Membaca parameter fields, misalnya "id,title,stockQuantity,price"
+     * @throws IllegalArgumentException jika kosong atau berisi field yang tidak dikenal
+     */
+    public static BookFieldSet parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("Parameter fields tidak boleh kosong");
+        }
+        if (fields.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Parameter fields terlalu panjang");
+        }
+        
+        int mask = 0;
+        for (String field : fields.split(",")) {
+            Integer position = POSITIONS.get(field.trim());
+            if (position == null) {
+                throw new IllegalArgumentException("Field tidak dikenal: " + field.trim()
+                        + ". Field yang tersedia: " + String.join(", ", FIELDS));
+            }
+            mask |= 1 << position;
+        }
+        return new BookFieldSet(mask);
+    }
+    
+    /**
+     * Field set ini ditambah field lain, misalnya kolom kunci cursor yang tidak diminta client
+     */
+    public BookFieldSet with(String... fields) {
+        int combined = mask;
+        for (String field : fields) {
+            combined |= 1 << POSITIONS.get(field);
+        }
+        return combined == mask ? this : new BookFieldSet(combined);
+    }
+    
+    /**
+     * Bitmask field yang dipilih (bit ke-i = FIELDS.get(i))
+     */
+    public int mask() {
+        return mask;
+    }
+    
+    /**
+     * Nama field yang dipilih, urut sesuai FIELDS
+     */
+    public List<String> names() {
+        return names;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.testuas.dto;
+
+import java.util.List;
+
+import com.example.testuas.entity.Book;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kriteria filter gabungan untuk GET /api/books/filter
+ * 
+ * - Nilai dalam satu kriteria digabung dengan OR (status=AVAILABLE&status=RESERVED)
+ * - Antar kriteria digabung dengan AND
+ * - excludeStatus dan excludeCategory mengeluarkan buku yang cocok (NOT)
+ * - Batas range (tahun, harga, stok) bersifat inklusif dan opsional
+ */
+@Data
+@NoArgsConstructor
+public class BookFilter {
+    
+    private List<Book.BookStatus> status;
+    private List<Book.BookStatus> excludeStatus;
+    private List<String> category;
+    private List<String> excludeCategory;
+    private Integer yearFrom;
+    private Integer yearTo;
+    private Double minPrice;
+    private Double maxPrice;
+    private Integer minStock;
+    private Integer maxStock;
+    
+    /**
+     * Memastikan setiap range tidak terbalik
+     */
+    public void validate() {
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("yearFrom tidak boleh lebih besar dari yearTo");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice tidak boleh lebih besar dari maxPrice");
+        }
+        if (minStock != null && maxStock != null && minStock > maxStock) {
+            throw new IllegalArgumentException("minStock tidak boleh lebih besar dari maxStock");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.testuas.dto;
+
+import com.example.testuas.entity.Book;
+
+/**
+ * Ringkasan buku untuk endpoint daftar (list)
+ * 
+ * - Tanpa kolom description (TEXT sampai 2000 karakter) dan timestamp
+ * - Dibuat langsung dari query JPQL "SELECT new ...", bukan entitas managed,
+ *   sehingga tidak ada snapshot dirty checking di persistence context
+ * - Detail lengkap tetap tersedia lewat GET /api/books/{id} (BookResponse)
+ */
+public record BookSummary(
+        Long id,
+        String title,
+        String author,
+        String isbn,
+        Integer publicationYear,
+        String category,
+        Integer stockQuantity,
+        Double price,
+        Book.BookStatus status) {
+}
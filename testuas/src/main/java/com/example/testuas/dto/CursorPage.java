@@ -0,0 +1,25 @@
+package com.example.testuas.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO untuk satu halaman data dengan pagination berbasis cursor (keyset)
+ * nextCursor bernilai null jika sudah tidak ada halaman berikutnya
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+    
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return new CursorPage<>(items, nextCursor, items.size());
+    }
+}
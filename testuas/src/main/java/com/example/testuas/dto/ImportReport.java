@@ -0,0 +1,35 @@
+package com.example.testuas.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO laporan hasil bulk import buku
+ * rejectedRows dibatasi jumlahnya, total baris yang ditolak ada di field rejected
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+    
+    private long imported;
+    private long rejected;
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<RejectedRow> rejectedRows;
+    
+    /**
+     * Baris yang ditolak beserta alasannya
+     * row adalah nomor urut data (dimulai dari 1, tanpa header CSV)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private long row;
+        private String reason;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.testuas.dto;
+
+import java.time.Instant;
+
+/**
+ * Notifikasi saat stok buku melewati threshold stok rendah kategorinya
+ * 
+ * - LOW_STOCK: stok turun ke threshold atau di bawahnya (termasuk buku baru dengan stok rendah)
+ * - RESTOCKED: stok kembali di atas threshold
+ */
+public record LowStockAlert(
+        Type type,
+        Long bookId,
+        String title,
+        String category,
+        int stockQuantity,
+        int threshold,
+        Instant occurredAt) {
+
+    public enum Type {
+        LOW_STOCK,
+        RESTOCKED
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.testuas.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO hasil rekonsiliasi statistik in-memory terhadap database
+ * differences kosong berarti counter konsisten dengan database
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsDriftReport {
+    
+    private LocalDateTime checkedAt;
+    private boolean consistent;
+    private List<String> differences;
+}
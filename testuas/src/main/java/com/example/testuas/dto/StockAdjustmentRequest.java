@@ -0,0 +1,18 @@
+package com.example.testuas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO untuk satu item penyesuaian stok pada endpoint batch
+ * delta positif menambah stok, delta negatif mengurangi stok
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentRequest {
+    
+    private Long id;
+    private Integer delta;
+}
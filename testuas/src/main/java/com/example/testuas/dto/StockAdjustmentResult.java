@@ -0,0 +1,28 @@
+package com.example.testuas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO hasil penyesuaian stok per item
+ * Item yang gagal tidak membatalkan item lain dalam batch yang sama
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentResult {
+    
+    private Long id;
+    private boolean success;
+    private Integer stockQuantity;
+    private String message;
+    
+    public static StockAdjustmentResult succeeded(Long id, int stockQuantity) {
+        return new StockAdjustmentResult(id, true, stockQuantity, null);
+    }
+    
+    public static StockAdjustmentResult failed(Long id, String message) {
+        return new StockAdjustmentResult(id, false, null, message);
+    }
+}
@@ -12,6 +12,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
@@ -35,14 +37,32 @@ import lombok.NoArgsConstructor;
  * @Column - Mengatur mapping kolom dengan konfigurasi spesifik
  * @CreationTimestamp - Otomatis mengisi timestamp saat entitas dibuat
  * @UpdateTimestamp - Otomatis mengupdate timestamp saat entitas diubah
+ * 
+ * Index tabel books (selain primary key dan unique isbn):
+ * - category_key + id: pencarian kategori case-insensitive dan pagination keyset per kategori
+ * - status + id: pencarian/hitung per status dan pagination keyset per status
+ * - stock_quantity + id: buku stok rendah (urut stok) dan pagination keyset-nya
+ * - publication_year: pencarian tahun terbit dan buku terbaru
+ * - price: pencarian range harga
  */
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+    @Index(name = "idx_books_category_key", columnList = "category_key, id"),
+    @Index(name = "idx_books_status", columnList = "status, id"),
+    @Index(name = "idx_books_stock", columnList = "stock_quantity, id"),
+    @Index(name = "idx_books_publication_year", columnList = "publication_year"),
+    @Index(name = "idx_books_price", columnList = "price")
+})
 @Data                   // Lombok: generate getter, setter, toString, equals, hashCode
 @NoArgsConstructor      // Lombok: generate constructor tanpa parameter
 @AllArgsConstructor     // Lombok: generate constructor dengan semua parameter
 public class Book {
     
+    /**
+     * Jumlah ID yang dialokasikan per pemanggilan sequence books_seq
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
     /**
      * Primary Key - ID buku
      * @Id - Menandai field sebagai primary key
@@ -51,10 +71,17 @@ public class Book {
      *   strategy = GenerationType.SEQUENCE - Menggunakan sequence database
      *   strategy = GenerationType.TABLE - Menggunakan tabel terpisah untuk ID
      *   strategy = GenerationType.AUTO - Hibernate memilih strategi terbaik
+     * 
+     * Menggunakan SEQUENCE dengan alokasi per blok (allocationSize), karena IDENTITY
+     * membuat Hibernate tidak bisa melakukan batch insert. Dengan optimizer pooled-lo,
+     * satu nilai sequence v berarti ID v sampai v + ID_ALLOCATION_SIZE - 1.
+     * DEFAULT pada kolom membuat INSERT SQL biasa (tanpa ID) tetap berjalan.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = ID_ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT NEXT VALUE FOR books_seq")
     private Long id;
     
     /**
@@ -105,6 +132,15 @@ public class Book {
     @Size(max = 100, message = "Kategori tidak boleh lebih dari 100 karakter")
     private String category;
     
+    /**
+     * Kategori dalam huruf besar, dihitung oleh database (generated column)
+     * H2 tidak mendukung index berbasis fungsi, sehingga UPPER(category) disimpan sebagai kolom
+     * tersendiri yang bisa di-index. Query kategori case-insensitive memakai kolom ini.
+     */
+    @Column(name = "category_key", length = 100, insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(100) GENERATED ALWAYS AS (UPPER(category))")
+    private String categoryKey;
+    
     /**
      * Deskripsi buku
      * @Column(columnDefinition = "TEXT") - Menggunakan tipe TEXT di database
@@ -201,10 +237,13 @@ public class Book {
      * Method untuk mengupdate status berdasarkan stok
      */
     private void updateStatus() {
-        if (this.stockQuantity > 0) {
-            this.status = BookStatus.AVAILABLE;
-        } else {
-            this.status = BookStatus.BORROWED;
-        }
+        this.status = statusForStock(this.stockQuantity);
+    }
+    
+    /**
+     * Status yang berlaku untuk jumlah stok tertentu setelah stok berubah
+     */
+    public static BookStatus statusForStock(int stockQuantity) {
+        return stockQuantity > 0 ? BookStatus.AVAILABLE : BookStatus.BORROWED;
     }
 } 
\ No newline at end of file
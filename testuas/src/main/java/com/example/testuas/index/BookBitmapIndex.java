@@ -0,0 +1,232 @@
+package com.example.testuas.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.example.testuas.dto.BookFilter;
+import com.example.testuas.entity.Book;
+
+/**
+ * Index bitmap untuk filter gabungan status, kategori, tahun terbit, harga, dan stok
+ * 
+ * - Status dan kategori (case-insensitive): satu CompressedBitmap per nilai
+ * - Tahun, harga, dan stok: bitmap per nilai dalam TreeMap terurut. Range dihitung dengan OR
+ *   bitmap di dalam range, atau jika lebih sedikit, semua buku dikurangi (AND NOT) bitmap di luar range
+ * - Filter dievaluasi sepenuhnya di memory; database hanya dipakai untuk mengambil
+ *   satu halaman hasil berdasarkan primary key
+ */
+@Component
+public class BookBitmapIndex implements BookIndex {
+    
+    private CompressedBitmap all = new CompressedBitmap();
+    private final Map<Book.BookStatus, CompressedBitmap> byStatus = new EnumMap<>(Book.BookStatus.class);
+    private final Map<String, CompressedBitmap> byCategory = new HashMap<>();
+    private final RangeBitmaps<Integer> byYear = new RangeBitmaps<>();
+    private final RangeBitmaps<Double> byPrice = new RangeBitmaps<>();
+    private final RangeBitmaps<Integer> byStock = new RangeBitmaps<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            all = new CompressedBitmap();
+            byStatus.clear();
+            byCategory.clear();
+            byYear.clear();
+            byPrice.clear();
+            byStock.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void apply(BookSnapshot before, BookSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                int id = toDocId(before.id());
+                all.remove(id);
+                removeFrom(byStatus.get(before.status()), id);
+                removeFrom(byCategory.get(categoryKey(before.category())), id);
+                byYear.remove(before.publicationYear(), id);
+                byPrice.remove(before.price(), id);
+                byStock.remove(before.stockQuantity(), id);
+            }
+            if (after != null) {
+                int id = toDocId(after.id());
+                all.add(id);
+                if (after.status() != null) {
+                    byStatus.computeIfAbsent(after.status(), s -> new CompressedBitmap()).add(id);
+                }
+                if (after.category() != null) {
+                    byCategory.computeIfAbsent(categoryKey(after.category()), c -> new CompressedBitmap()).add(id);
+                }
+                byYear.add(after.publicationYear(), id);
+                byPrice.add(after.price(), id);
+                byStock.add(after.stockQuantity(), id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * ID buku yang cocok dengan filter, lebih besar dari afterId, terurut naik, paling banyak limit
+     */
+    public int[] filter(BookFilter filter, int afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            return evaluate(filter).page(afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Jumlah buku yang cocok dengan filter
+     */
+    public int count(BookFilter filter) {
+        lock.readLock().lock();
+        try {
+            return evaluate(filter).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private CompressedBitmap evaluate(BookFilter filter) {
+        CompressedBitmap result = all;
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            result = result.and(statuses(filter.getStatus()));
+        }
+        if (filter.getCategory() != null && !filter.getCategory().isEmpty()) {
+            result = result.and(categories(filter.getCategory()));
+        }
+        if (filter.getYearFrom() != null || filter.getYearTo() != null) {
+            result = result.and(byYear.range(filter.getYearFrom(), filter.getYearTo()));
+        }
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+            result = result.and(byPrice.range(filter.getMinPrice(), filter.getMaxPrice()));
+        }
+        if (filter.getMinStock() != null || filter.getMaxStock() != null) {
+            result = result.and(byStock.range(filter.getMinStock(), filter.getMaxStock()));
+        }
+        if (filter.getExcludeStatus() != null && !filter.getExcludeStatus().isEmpty()) {
+            result = result.andNot(statuses(filter.getExcludeStatus()));
+        }
+        if (filter.getExcludeCategory() != null && !filter.getExcludeCategory().isEmpty()) {
+            result = result.andNot(categories(filter.getExcludeCategory()));
+        }
+        return result;
+    }
+    
+    private CompressedBitmap statuses(Collection<Book.BookStatus> statuses) {
+        List<CompressedBitmap> bitmaps = new ArrayList<>();
+        for (Book.BookStatus status : statuses) {
+            CompressedBitmap bitmap = byStatus.get(status);
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        return CompressedBitmap.union(bitmaps);
+    }
+    
+    private CompressedBitmap categories(Collection<String> categories) {
+        List<CompressedBitmap> bitmaps = new ArrayList<>();
+        for (String category : categories) {
+            CompressedBitmap bitmap = byCategory.get(categoryKey(category));
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        return CompressedBitmap.union(bitmaps);
+    }
+    
+    private static void removeFrom(CompressedBitmap bitmap, int id) {
+        if (bitmap != null) {
+            bitmap.remove(id);
+        }
+    }
+    
+    /**
+     * Kunci kategori case-insensitive, sama seperti kolom category_key (UPPER(category))
+     */
+    private static String categoryKey(String category) {
+        return category == null ? null : category.trim().toUpperCase(Locale.ROOT);
+    }
+    
+    private static int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+    
+    /**
+     * Bitmap per nilai untuk kolom yang bisa difilter dengan range (batas inklusif, null = tanpa batas)
+     */
+    private static final class RangeBitmaps<K extends Comparable<K>> {
+        
+        private final NavigableMap<K, CompressedBitmap> values = new TreeMap<>();
+        private CompressedBitmap present = new CompressedBitmap();
+        
+        void clear() {
+            values.clear();
+            present = new CompressedBitmap();
+        }
+        
+        void add(K value, int id) {
+            if (value != null) {
+                values.computeIfAbsent(value, v -> new CompressedBitmap()).add(id);
+                present.add(id);
+            }
+        }
+        
+        void remove(K value, int id) {
+            if (value == null) {
+                return;
+            }
+            CompressedBitmap bitmap = values.get(value);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+            present.remove(id);
+        }
+        
+        CompressedBitmap range(K from, K to) {
+            NavigableMap<K, CompressedBitmap> inside = values;
+            if (from != null) {
+                inside = inside.tailMap(from, true);
+            }
+            if (to != null) {
+                inside = inside.headMap(to, true);
+            }
+            if (inside.size() * 2 <= values.size()) {
+                return CompressedBitmap.union(inside.values());
+            }
+            
+            // Range mencakup sebagian besar nilai: lebih murah mengurangi nilai di luar range
+            List<CompressedBitmap> outside = new ArrayList<>();
+            if (from != null) {
+                outside.addAll(values.headMap(from, false).values());
+            }
+            if (to != null) {
+                outside.addAll(values.tailMap(to, false).values());
+            }
+            return present.andNot(CompressedBitmap.union(outside));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.testuas.index;
+
+import java.util.List;
+
+/**
+ * Penerima perubahan buku yang sudah di-commit
+ * 
+ * Berbeda dengan {@link BookIndex}, listener tidak ikut dibangun ulang: rebuild saat startup
+ * tidak menghasilkan panggilan onChange, hanya satu panggilan onRebuild. {@link BookIndexMaintainer} memanggil semua listener
+ * setelah index diperbarui dan CatalogVersion dinaikkan, sehingga listener bisa langsung
+ * membaca index yang sudah berisi perubahan tersebut.
+ */
+public interface BookChangeListener {
+
+    /**
+     * Satu perubahan buku yang sudah di-commit
+     * @param before kondisi sebelum perubahan, null untuk buku baru
+     * @param after kondisi sesudah perubahan, null untuk buku yang dihapus
+     */
+    void onChange(BookSnapshot before, BookSnapshot after);
+
+    /**
+     * Banyak buku baru dari satu batch import yang sudah di-commit
+     * Default-nya sama dengan onChange(null, after) untuk setiap buku
+     */
+    default void onBulkCreate(List<BookSnapshot> created) {
+        for (BookSnapshot after : created) {
+            onChange(null, after);
+        }
+    }
+
+    /**
+     * Index selesai dibangun ulang dari tabel books; perubahan sebelumnya mungkin tidak pernah dilaporkan
+     * (misalnya katalog diganti oleh CatalogGenerator)
+     */
+    default void onRebuild() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.testuas.index;
+
+/**
+ * Kontrak untuk struktur data in-memory yang dibangun dari tabel books
+ * 
+ * Semua implementasi didaftarkan sebagai Spring bean dan dikelola oleh
+ * {@link BookIndexMaintainer}, yang membangun ulang index saat aplikasi start
+ * dan meneruskan setiap perubahan setelah transaksi berhasil di-commit.
+ */
+public interface BookIndex {
+
+    /**
+     * Mengosongkan index sebelum dibangun ulang
+     */
+    void clear();
+
+    /**
+     * Menerapkan satu perubahan buku
+     * @param before kondisi sebelum perubahan, null untuk buku baru
+     * @param after kondisi sesudah perubahan, null untuk buku yang dihapus
+     */
+    void apply(BookSnapshot before, BookSnapshot after);
+}
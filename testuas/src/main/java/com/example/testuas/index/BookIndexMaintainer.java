@@ -0,0 +1,190 @@
+package com.example.testuas.index;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.testuas.entity.Book;
+import com.example.testuas.repository.BookRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Komponen yang menjaga semua {@link BookIndex} tetap sinkron dengan database
+ * 
+ * - Saat aplikasi siap, semua index dibangun ulang dari isi tabel books (dibaca secara streaming)
+ * - Setiap perubahan dari service diteruskan ke index setelah transaksi commit,
+ *   sehingga perubahan yang di-rollback tidak pernah masuk ke index
+ * - CatalogVersion dinaikkan setelah semua index diperbarui
+ * - Selama rebuild, transaksi yang mempublikasikan perubahan ditahan di publish sampai rebuild selesai
+ *   (lihat rebuildLock), sehingga tidak ada perubahan yang diterapkan ke index yang baru setengah dibangun
+ * - Terakhir, perubahan diteruskan ke semua {@link BookChangeListener} (saat rebuild hanya onRebuild)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookIndexMaintainer {
+    
+    /**
+     * Persistence context dikosongkan setiap sekian baris agar rebuild katalog besar tidak menahan semua entitas
+     */
+    private static final int CLEAR_INTERVAL = 1000;
+    
+    private final BookRepository bookRepository;
+    private final List<BookIndex> indexes;
+    private final List<BookChangeListener> listeners;
+    private final CatalogVersion catalogVersion;
+    private final EntityManager entityManager;
+    
+    private volatile boolean ready = false;
+    
+    /**
+     * Write lock dipegang rebuild selama tabel dibaca. Setiap transaksi yang menulis memegang read lock
+     * sejak publish pertama sampai transaksi selesai, jadi:
+     * - rebuild baru mulai setelah perubahan yang sudah di-commit selesai diterapkan ke index
+     * - penulis yang publish selama rebuild menunggu sebelum commit; stream rebuild hanya melihat
+     *   baris lama (belum di-commit), dan perubahannya diterapkan setelah rebuild selesai
+     * Tanpa ini, perubahan yang di-commit saat stream belum mencapai barisnya akan masuk dua kali.
+     */
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    
+    /**
+     * Membangun ulang semua index dari isi tabel books
+     * Saat startup dijalankan paling awal di antara listener ApplicationReadyEvent (lihat StartupTimingListener)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        log.info("Rebuilding {} book indexes", indexes.size());
+        long start = System.nanoTime();
+        
+        long count = 0;
+        rebuildLock.writeLock().lock();
+        try {
+            ready = false;
+            indexes.forEach(BookIndex::clear);
+            
+            try (Stream<Book> books = bookRepository.streamAllOrderById()) {
+                Iterator<Book> iterator = books.iterator();
+                while (iterator.hasNext()) {
+                    BookSnapshot snapshot = BookSnapshot.of(iterator.next());
+                    for (BookIndex index : indexes) {
+                        index.apply(null, snapshot);
+                    }
+                    if (++count % CLEAR_INTERVAL == 0) {
+                        entityManager.clear();
+                    }
+                }
+            }
+            ready = true;
+            catalogVersion.increment();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        listeners.forEach(BookChangeListener::onRebuild);
+        
+        log.info("Indexed {} books in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * Meneruskan perubahan buku ke semua index
+     * Jika dipanggil di dalam transaksi, perubahan baru diterapkan setelah commit
+     * Selama rebuild berjalan, method ini menunggu sampai rebuild selesai
+     */
+    public void publish(BookSnapshot before, BookSnapshot after) {
+        applyAfterCommit(() -> applyToIndexes(before, after));
+    }
+    
+    /**
+     * Meneruskan banyak buku baru sekaligus (satu batch import) ke semua index
+     * CatalogVersion hanya dinaikkan sekali dan listener menerima satu panggilan onBulkCreate,
+     * bukan satu onChange per buku
+     */
+    public void publishCreated(List<BookSnapshot> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        List<BookSnapshot> snapshots = List.copyOf(created);
+        applyAfterCommit(() -> applyCreatedToIndexes(snapshots));
+    }
+    
+    private void applyAfterCommit(Runnable apply) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            holdRebuildLockUntilCompletion();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            rebuildLock.readLock().lock();
+            try {
+                apply.run();
+            } finally {
+                rebuildLock.readLock().unlock();
+            }
+        }
+    }
+    
+    /**
+     * Mengambil read lock sekali per transaksi dan melepasnya setelah transaksi selesai
+     * (afterCompletion berjalan setelah semua afterCommit, jadi semua perubahan sudah diterapkan)
+     */
+    private void holdRebuildLockUntilCompletion() {
+        if (TransactionSynchronizationManager.hasResource(rebuildLock)) {
+            return;
+        }
+        rebuildLock.readLock().lock();
+        TransactionSynchronizationManager.bindResource(rebuildLock, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(rebuildLock);
+                rebuildLock.readLock().unlock();
+            }
+        });
+    }
+    
+    /**
+     * Apakah index sudah selesai dibangun dan bisa dipakai untuk query
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    private void applyToIndexes(BookSnapshot before, BookSnapshot after) {
+        for (BookIndex index : indexes) {
+            index.apply(before, after);
+        }
+        catalogVersion.increment();
+        for (BookChangeListener listener : listeners) {
+            listener.onChange(before, after);
+        }
+    }
+    
+    private void applyCreatedToIndexes(List<BookSnapshot> created) {
+        for (BookSnapshot after : created) {
+            for (BookIndex index : indexes) {
+                index.apply(null, after);
+            }
+        }
+        catalogVersion.increment();
+        for (BookChangeListener listener : listeners) {
+            listener.onBulkCreate(created);
+        }
+    }
+}
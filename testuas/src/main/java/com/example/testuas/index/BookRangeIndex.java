@@ -0,0 +1,325 @@
+package com.example.testuas.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Index terurut untuk range query harga dan tahun terbit
+ *
+ * Setiap kolom disimpan sebagai pasangan (nilai, ID) terurut dalam blok-blok array primitif
+ * (double[] nilai + long[] ID, maksimal 1024 entri per blok). Tulis cukup menggeser isi satu blok,
+ * dan blok yang penuh dibelah dua, sehingga perubahan inkremental tidak menyalin seluruh index.
+ *
+ * Range lookup: binary search blok dan posisi awal (O(log n)), lalu membaca entri berurutan
+ * sampai batas range atau limit tercapai (O(k)), baik urutan naik maupun turun.
+ */
+@Component
+public class BookRangeIndex implements BookIndex {
+
+    /**
+     * Kolom yang diindex
+     */
+    public enum Field {
+        PRICE,
+        PUBLICATION_YEAR
+    }
+
+    /**
+     * Hasil range lookup: nilai dan ID dengan urutan yang sama
+     */
+    public record Slice(double[] keys, long[] ids) {
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    private final SortedKeys prices = new SortedKeys();
+    private final SortedKeys years = new SortedKeys();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            prices.clear();
+            years.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(BookSnapshot before, BookSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                if (before.price() != null) {
+                    prices.remove(before.price(), before.id());
+                }
+                if (before.publicationYear() != null) {
+                    years.remove(before.publicationYear(), before.id());
+                }
+            }
+            if (after != null) {
+                if (after.price() != null) {
+                    prices.add(after.price(), after.id());
+                }
+                if (after.publicationYear() != null) {
+                    years.add(after.publicationYear(), after.id());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Entri dengan from <= nilai <= to, diurutkan berdasarkan (nilai, ID)
+     * @param afterKey nilai entri terakhir halaman sebelumnya, null untuk halaman pertama
+     * @param afterId ID entri terakhir halaman sebelumnya
+     * @param limit jumlah entri maksimal; pembacaan berhenti begitu limit tercapai
+     */
+    public Slice range(Field field, double from, double to, boolean descending,
+                       Double afterKey, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            SortedKeys keys = field == Field.PRICE ? prices : years;
+            return descending
+                    ? keys.descending(from, to, afterKey, afterId, limit)
+                    : keys.ascending(from, to, afterKey, afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah entri yang diindex untuk satu kolom
+     */
+    public int size(Field field) {
+        lock.readLock().lock();
+        try {
+            return field == Field.PRICE ? prices.size : years.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Slice slice(double[] keys, long[] ids, int count) {
+        return new Slice(Arrays.copyOf(keys, count), Arrays.copyOf(ids, count));
+    }
+
+    private static int compare(double leftKey, long leftId, double rightKey, long rightId) {
+        int byKey = Double.compare(leftKey, rightKey);
+        return byKey != 0 ? byKey : Long.compare(leftId, rightId);
+    }
+
+    /**
+     * Pasangan (nilai, ID) terurut dalam daftar blok
+     */
+    private static final class SortedKeys {
+
+        private static final int BLOCK_CAPACITY = 1024;
+
+        private final List<Block> blocks = new ArrayList<>();
+        private int size = 0;
+
+        void clear() {
+            blocks.clear();
+            size = 0;
+        }
+
+        void add(double key, long id) {
+            if (blocks.isEmpty()) {
+                blocks.add(new Block());
+            }
+            int index = blockFor(key, id);
+            Block block = blocks.get(index);
+            if (block.size == BLOCK_CAPACITY) {
+                Block right = block.split();
+                blocks.add(index + 1, right);
+                if (compare(key, id, right.keys[0], right.ids[0]) >= 0) {
+                    block = right;
+                }
+            }
+            if (block.insert(key, id)) {
+                size++;
+            }
+        }
+
+        void remove(double key, long id) {
+            if (blocks.isEmpty()) {
+                return;
+            }
+            int index = blockFor(key, id);
+            Block block = blocks.get(index);
+            if (block.remove(key, id)) {
+                size--;
+                if (block.size == 0) {
+                    blocks.remove(index);
+                }
+            }
+        }
+
+        Slice ascending(double from, double to, Double afterKey, long afterId, int limit) {
+            double startKey = from;
+            long startId = Long.MIN_VALUE;
+            if (afterKey != null && compare(afterKey, afterId, from, Long.MIN_VALUE) >= 0) {
+                startKey = afterKey;
+                startId = afterId + 1;
+            }
+
+            double[] keys = new double[limit];
+            long[] ids = new long[limit];
+            int count = 0;
+            int blockIndex = blockFor(startKey, startId);
+            int position = blocks.isEmpty() ? 0 : blocks.get(blockIndex).ceiling(startKey, startId);
+            for (; blockIndex < blocks.size() && count < limit; blockIndex++, position = 0) {
+                Block block = blocks.get(blockIndex);
+                for (; position < block.size && count < limit; position++) {
+                    if (block.keys[position] > to) {
+                        return slice(keys, ids, count);
+                    }
+                    keys[count] = block.keys[position];
+                    ids[count++] = block.ids[position];
+                }
+            }
+            return slice(keys, ids, count);
+        }
+
+        Slice descending(double from, double to, Double afterKey, long afterId, int limit) {
+            double startKey = to;
+            long startId = Long.MAX_VALUE;
+            if (afterKey != null && compare(afterKey, afterId, to, Long.MAX_VALUE) <= 0) {
+                startKey = afterKey;
+                startId = afterId - 1;
+            }
+
+            double[] keys = new double[limit];
+            long[] ids = new long[limit];
+            int count = 0;
+            if (blocks.isEmpty()) {
+                return slice(keys, ids, 0);
+            }
+            // Posisi terakhir yang <= (startKey, startId): ceiling, mundur satu jika ceiling lebih besar
+            int blockIndex = blockFor(startKey, startId);
+            int position = blocks.get(blockIndex).ceiling(startKey, startId);
+            Block start = blocks.get(blockIndex);
+            if (position == start.size || compare(start.keys[position], start.ids[position], startKey, startId) > 0) {
+                position--;
+            }
+            for (; blockIndex >= 0 && count < limit; blockIndex--) {
+                Block block = blocks.get(blockIndex);
+                if (position == Integer.MAX_VALUE) {
+                    position = block.size - 1;
+                }
+                for (; position >= 0 && count < limit; position--) {
+                    if (block.keys[position] < from) {
+                        return slice(keys, ids, count);
+                    }
+                    keys[count] = block.keys[position];
+                    ids[count++] = block.ids[position];
+                }
+                position = Integer.MAX_VALUE;
+            }
+            return slice(keys, ids, count);
+        }
+
+        /**
+         * Blok pertama yang entri terakhirnya >= (key, id), atau blok terakhir jika tidak ada
+         */
+        private int blockFor(double key, long id) {
+            int low = 0;
+            int high = blocks.size() - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                Block block = blocks.get(mid);
+                int last = block.size - 1;
+                if (compare(block.keys[last], block.ids[last], key, id) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Satu blok entri terurut: double[] nilai dan long[] ID yang sejajar
+     */
+    private static final class Block {
+
+        private final double[] keys = new double[SortedKeys.BLOCK_CAPACITY];
+        private final long[] ids = new long[SortedKeys.BLOCK_CAPACITY];
+        private int size = 0;
+
+        boolean insert(double key, long id) {
+            int position = search(key, id);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            keys[position] = key;
+            ids[position] = id;
+            size++;
+            return true;
+        }
+
+        boolean remove(double key, long id) {
+            int position = search(key, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * Posisi entri pertama yang >= (key, id), atau size jika tidak ada
+         */
+        int ceiling(double key, long id) {
+            int position = search(key, id);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        /**
+         * Memindahkan separuh isi blok ke blok baru di sebelah kanan
+         */
+        Block split() {
+            Block right = new Block();
+            int half = size / 2;
+            right.size = size - half;
+            System.arraycopy(keys, half, right.keys, 0, right.size);
+            System.arraycopy(ids, half, right.ids, 0, right.size);
+            size = half;
+            return right;
+        }
+
+        private int search(double key, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int comparison = compare(keys[mid], ids[mid], key, id);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.testuas.index;
+
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.entity.Book;
+
+/**
+ * Salinan immutable dari kolom-kolom Book yang dibutuhkan oleh index in-memory
+ * 
+ * Kolom description sengaja tidak disalin karena tidak pernah diindex.
+ * Snapshot dibuat sebelum dan sesudah perubahan sehingga setiap index
+ * bisa menghitung selisihnya sendiri tanpa menyimpan salinan data.
+ */
+public record BookSnapshot(
+        Long id,
+        String title,
+        String author,
+        String isbn,
+        Integer publicationYear,
+        String category,
+        Integer stockQuantity,
+        Double price,
+        Book.BookStatus status) {
+
+    /**
+     * Salinan snapshot dengan stok (dan status turunannya) yang baru
+     */
+    public BookSnapshot withStock(int newStockQuantity) {
+        return new BookSnapshot(id, title, author, isbn, publicationYear, category,
+                newStockQuantity, price, Book.statusForStock(newStockQuantity));
+    }
+    
+    /**
+     * Proyeksi ringkas dengan kolom yang sama, misalnya untuk payload event perubahan
+     */
+    public BookSummary toSummary() {
+        return new BookSummary(id, title, author, isbn, publicationYear, category, stockQuantity, price, status);
+    }
+    
+    /**
+     * Membuat snapshot dari entitas Book
+     */
+    public static BookSnapshot of(Book book) {
+        return new BookSnapshot(
+            book.getId(),
+            book.getTitle(),
+            book.getAuthor(),
+            book.getIsbn(),
+            book.getPublicationYear(),
+            book.getCategory(),
+            book.getStockQuantity(),
+            book.getPrice(),
+            book.getStatus()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.testuas.index;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.example.testuas.entity.Book;
+
+/**
+ * Agregat statistik katalog yang diperbarui secara inkremental
+ * 
+ * Nilai awal dihitung saat index dibangun ulang, setelah itu setiap perubahan
+ * hanya menambahkan selisihnya (delta) ke counter LongAdder/DoubleAdder.
+ * Pembacaan cukup menjumlahkan counter: O(1) dan tanpa query database.
+ */
+@Component
+public class CatalogStatistics implements BookIndex {
+    
+    private final LongAdder totalBooks = new LongAdder();
+    private final LongAdder totalStock = new LongAdder();
+    private final DoubleAdder inventoryValue = new DoubleAdder();
+    private final Map<Book.BookStatus, LongAdder> statusCounts = new EnumMap<>(Book.BookStatus.class);
+    
+    public CatalogStatistics() {
+        for (Book.BookStatus status : Book.BookStatus.values()) {
+            statusCounts.put(status, new LongAdder());
+        }
+    }
+    
+    @Override
+    public void clear() {
+        totalBooks.reset();
+        totalStock.reset();
+        inventoryValue.reset();
+        statusCounts.values().forEach(LongAdder::reset);
+    }
+    
+    @Override
+    public void apply(BookSnapshot before, BookSnapshot after) {
+        if (before != null) {
+            add(before, -1);
+        }
+        if (after != null) {
+            add(after, 1);
+        }
+    }
+    
+    public long getTotalBooks() {
+        return totalBooks.sum();
+    }
+    
+    public long getTotalStock() {
+        return totalStock.sum();
+    }
+    
+    /**
+     * Total nilai inventaris (jumlah harga x stok)
+     */
+    public double getInventoryValue() {
+        return inventoryValue.sum();
+    }
+    
+    public long getCount(Book.BookStatus status) {
+        return statusCounts.get(status).sum();
+    }
+    
+    private void add(BookSnapshot book, int sign) {
+        int stock = book.stockQuantity() != null ? book.stockQuantity() : 0;
+        
+        totalBooks.add(sign);
+        totalStock.add((long) sign * stock);
+        inventoryValue.add(sign * valueOf(book.price(), stock));
+        if (book.status() != null) {
+            statusCounts.get(book.status()).add(sign);
+        }
+    }
+    
+    /**
+     * Nilai inventaris satu buku, harga kosong dianggap 0 (sama seperti SUM di SQL)
+     */
+    public static double valueOf(Double price, int stock) {
+        return price != null ? price * stock : 0.0;
+    }
+}
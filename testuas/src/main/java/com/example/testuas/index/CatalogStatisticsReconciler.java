@@ -0,0 +1,103 @@
+package com.example.testuas.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.testuas.dto.StatisticsDriftReport;
+import com.example.testuas.entity.Book;
+import com.example.testuas.repository.BookRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job yang membandingkan {@link CatalogStatistics} dengan hasil agregasi database
+ * 
+ * Dijalankan berkala (app.statistics.reconcile-interval) dan bisa dipicu manual.
+ * Selisih hanya dilaporkan, tidak dikoreksi otomatis. Selisih sesaat bisa muncul
+ * jika ada transaksi tulis yang sedang commit saat pengecekan berjalan.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogStatisticsReconciler {
+    
+    /**
+     * Toleransi selisih nilai inventaris akibat pembulatan floating point
+     */
+    private static final double VALUE_TOLERANCE = 0.5;
+    
+    private final BookRepository bookRepository;
+    private final BookIndexMaintainer bookIndexMaintainer;
+    private final CatalogStatistics catalogStatistics;
+    
+    private volatile StatisticsDriftReport lastReport;
+    
+    @Scheduled(initialDelayString = "${app.statistics.reconcile-interval:5m}",
+               fixedDelayString = "${app.statistics.reconcile-interval:5m}")
+    public void scheduledReconcile() {
+        if (bookIndexMaintainer.isReady()) {
+            reconcile();
+        }
+    }
+    
+    /**
+     * Menghitung ulang statistik dengan satu query GROUP BY lalu membandingkannya
+     */
+    @Transactional(readOnly = true)
+    public StatisticsDriftReport reconcile() {
+        long totalBooks = 0;
+        long totalStock = 0;
+        double inventoryValue = 0.0;
+        Map<Book.BookStatus, Long> counts = new EnumMap<>(Book.BookStatus.class);
+        
+        for (Object[] row : bookRepository.summarizeByStatus()) {
+            Book.BookStatus status = (Book.BookStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            counts.put(status, count);
+            totalBooks += count;
+            totalStock += row[2] != null ? ((Number) row[2]).longValue() : 0;
+            inventoryValue += row[3] != null ? ((Number) row[3]).doubleValue() : 0.0;
+        }
+        
+        List<String> differences = new ArrayList<>();
+        compare(differences, "totalBooks", catalogStatistics.getTotalBooks(), totalBooks);
+        compare(differences, "totalStock", catalogStatistics.getTotalStock(), totalStock);
+        for (Book.BookStatus status : Book.BookStatus.values()) {
+            compare(differences, status.name(), catalogStatistics.getCount(status), counts.getOrDefault(status, 0L));
+        }
+        if (Math.abs(catalogStatistics.getInventoryValue() - inventoryValue) > VALUE_TOLERANCE) {
+            differences.add(String.format("inventoryValue: counter=%.2f db=%.2f",
+                    catalogStatistics.getInventoryValue(), inventoryValue));
+        }
+        
+        StatisticsDriftReport report = new StatisticsDriftReport(LocalDateTime.now(), differences.isEmpty(), differences);
+        if (report.isConsistent()) {
+            log.info("Statistics reconciliation: counters match database");
+        } else {
+            log.warn("Statistics reconciliation found drift: {}", differences);
+        }
+        lastReport = report;
+        return report;
+    }
+    
+    /**
+     * Hasil rekonsiliasi terakhir, null jika belum pernah dijalankan
+     */
+    public StatisticsDriftReport getLastReport() {
+        return lastReport;
+    }
+    
+    private static void compare(List<String> differences, String name, long counter, long database) {
+        if (counter != database) {
+            differences.add(name + ": counter=" + counter + " db=" + database);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.testuas.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Nomor versi global katalog buku, dipakai sebagai ETag endpoint daftar dan statistik
+ * 
+ * - Dinaikkan oleh BookIndexMaintainer setelah semua index menerapkan perubahan
+ *   (jadi setelah commit), sehingga versi baru tidak pernah terlihat sebelum datanya
+ * - Epoch (waktu start aplikasi) ikut di ETag, agar ETag dari proses sebelumnya
+ *   tidak pernah cocok setelah restart
+ */
+@Component
+public class CatalogVersion {
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Dipanggil setiap kali isi katalog berubah
+     */
+    public void increment() {
+        version.incrementAndGet();
+    }
+    
+    public long current() {
+        return version.get();
+    }
+    
+    /**
+     * ETag lemah untuk versi katalog saat ini dan satu representasi, misalnya W/"catalog-lz3k9x2a-42-1f3a"
+     * Lemah karena body yang sama dikirim gzip maupun identity; representation membedakan
+     * format (Accept) dan ?fields= sehingga JSON/CBOR/Smile tidak berbagi ETag.
+     * Harus dibaca sebelum data diambil: jika katalog berubah di antaranya,
+     * client hanya akan mengunduh ulang, tidak pernah menyimpan data lama dengan versi baru
+     */
+    public String etag(String representation) {
+        return "W/\"catalog-" + epoch + "-" + version.get() + "-" + representation + "\"";
+    }
+}
@@ -0,0 +1,582 @@
+package com.example.testuas.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Bitmap terkompresi bergaya Roaring untuk himpunan ID buku (int non-negatif)
+ *
+ * Ruang ID dibagi per blok 65536 nilai berdasarkan 16 bit atas. Setiap blok (container) disimpan sebagai
+ * - array char terurut jika isinya sedikit (maksimal 4096 nilai, paling besar 8 KB), atau
+ * - bitmap 1024 long (selalu 8 KB) jika lebih padat.
+ * AND / OR / AND NOT dikerjakan per blok dengan merge array atau operasi per word 64 bit,
+ * dan selalu menghasilkan bitmap baru tanpa mengubah operand. {@link #union(Collection)} menyalin container
+ * hanya saat sebuah blok pertama kali muncul, lalu meng-OR operand berikutnya langsung ke container itu.
+ *
+ * Tidak thread-safe; sinkronisasi diatur oleh pemiliknya (BookBitmapIndex).
+ */
+public final class CompressedBitmap {
+
+    /**
+     * Jumlah nilai maksimal dalam container array sebelum diubah menjadi container bitmap
+     */
+    static final int ARRAY_MAX = 4096;
+
+    private static final int WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size = 0;
+
+    public void add(int value) {
+        checkValue(value);
+        char key = highBits(value);
+        int index = indexOf(key);
+        if (index >= 0) {
+            containers[index] = containers[index].add(lowBits(value));
+        } else {
+            insert(-index - 1, key, new ArrayContainer().add(lowBits(value)));
+        }
+    }
+
+    public void remove(int value) {
+        int index = value < 0 ? -1 : indexOf(highBits(value));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove(lowBits(value));
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        int index = value < 0 ? -1 : indexOf(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Irisan (AND)
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gabungan (OR)
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = copy();
+        result.orInPlace(other);
+        return result;
+    }
+
+    /**
+     * Selisih (AND NOT): nilai di bitmap ini yang tidak ada di other
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.append(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gabungan (OR) banyak bitmap sekaligus; hasil memiliki container akumulatornya sendiri
+     * sehingga setiap OR ditulis di tempat tanpa alokasi container baru per langkah
+     */
+    public static CompressedBitmap union(Collection<CompressedBitmap> bitmaps) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (CompressedBitmap bitmap : bitmaps) {
+            result.orInPlace(bitmap);
+        }
+        return result;
+    }
+
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(4, size));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Nilai yang lebih besar dari after, terurut naik, paling banyak limit nilai
+     */
+    public int[] page(int after, int limit) {
+        if (limit <= 0 || after == Integer.MAX_VALUE) {
+            return new int[0];
+        }
+        int[] values = new int[limit];
+        int count = 0;
+        int from = Math.max(0, after + 1);
+        int index = indexOf(highBits(from));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        for (int i = index; i < size && count < limit; i++) {
+            int fromLow = keys[i] == highBits(from) ? lowBits(from) : 0;
+            count = containers[i].fill(values, count, limit, keys[i] << 16, fromLow);
+        }
+        return count == limit ? values : Arrays.copyOf(values, count);
+    }
+
+    public int[] toArray() {
+        return page(-1, cardinality());
+    }
+
+    /**
+     * OR ke bitmap ini; semua container bitmap ini harus milik sendiri (hasil copy), bukan milik operand
+     */
+    private void orInPlace(CompressedBitmap other) {
+        for (int j = 0; j < other.size; j++) {
+            int index = indexOf(other.keys[j]);
+            if (index >= 0) {
+                containers[index] = containers[index].orInPlace(other.containers[j]);
+            } else {
+                insert(-index - 1, other.keys[j], other.containers[j].copy());
+            }
+        }
+    }
+
+    private void append(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insert(size, key, container);
+        }
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Nilai bitmap tidak boleh negatif: " + value);
+        }
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    /**
+     * Satu blok 65536 nilai (16 bit bawah)
+     */
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        /**
+         * OR yang mengubah container ini; mengembalikan container ini atau penggantinya jika tipenya berubah
+         */
+        abstract Container orInPlace(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        /**
+         * Menulis nilai (high | low) dengan low >= fromLow ke out mulai dari posisi pos
+         * @return posisi setelah nilai terakhir yang ditulis
+         */
+        abstract int fill(int[] out, int pos, int limit, int high, int fromLow);
+    }
+
+    /**
+     * Container jarang: nilai 16 bit terurut
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char low) {
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            pos = -pos - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, pos, values, pos + 1, cardinality - pos);
+            values[pos] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos >= 0) {
+                System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0, j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_MAX) {
+                return toBitmap().or(array);
+            }
+            char[] result = new char[cardinality + array.cardinality];
+            int i = 0, j = 0, n = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[n++] = values[i++];
+                } else if (i == cardinality || values[i] > array.values[j]) {
+                    result[n++] = array.values[j++];
+                } else {
+                    result[n++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container orInPlace(Container other) {
+            if (other instanceof BitmapContainer || cardinality + other.cardinality() > ARRAY_MAX) {
+                BitmapContainer bitmap = toBitmap();
+                bitmap.orInPlace(other);
+                return bitmap.cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            int total = cardinality + array.cardinality;
+            if (total > values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(total, values.length * 2)));
+            }
+            // Merge dari belakang agar nilai yang belum dibaca tidak tertimpa
+            int i = cardinality - 1, j = array.cardinality - 1, k = total - 1;
+            while (j >= 0) {
+                if (i >= 0 && values[i] > array.values[j]) {
+                    values[k--] = values[i--];
+                } else {
+                    if (i >= 0 && values[i] == array.values[j]) {
+                        i--;
+                    }
+                    values[k--] = array.values[j--];
+                }
+            }
+            // Nilai duplikat meninggalkan celah antara sisa values[0..i] dan hasil merge
+            System.arraycopy(values, k + 1, values, i + 1, total - k - 1);
+            cardinality = i + 1 + total - k - 1;
+            return this;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[n++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(4, cardinality)), cardinality);
+        }
+
+        @Override
+        int fill(int[] out, int pos, int limit, int high, int fromLow) {
+            int i = fromLow == 0 ? 0 : Arrays.binarySearch(values, 0, cardinality, (char) fromLow);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            for (; i < cardinality && pos < limit; i++) {
+                out[pos++] = high | values[i];
+            }
+            return pos;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer(new long[WORDS], 0);
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Container padat: 65536 bit dalam 1024 long
+     */
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char low) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                words[low >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) != 0) {
+                words[low >>> 6] &= ~mask;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            for (int i = 0; i < WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    char low = array.values[i];
+                    result[low >>> 6] |= 1L << low;
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORDS; i++) {
+                    result[i] |= otherWords[i];
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        Container orInPlace(Container other) {
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    add(array.values[i]);
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORDS; i++) {
+                    cardinality += Long.bitCount(otherWords[i] & ~words[i]);
+                    words[i] |= otherWords[i];
+                }
+            }
+            return this;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    char low = array.values[i];
+                    result[low >>> 6] &= ~(1L << low);
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORDS; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        int fill(int[] out, int pos, int limit, int high, int fromLow) {
+            int wordIndex = fromLow >>> 6;
+            long word = words[wordIndex] & (-1L << fromLow);
+            while (pos < limit) {
+                while (word == 0) {
+                    if (++wordIndex == WORDS) {
+                        return pos;
+                    }
+                    word = words[wordIndex];
+                }
+                out[pos++] = high | (wordIndex << 6 | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+            return pos;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[n++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, n);
+        }
+
+        /**
+         * Container dari hasil operasi per word; kembali ke array jika isinya sedikit
+         */
+        private static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.testuas.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index berbasis token untuk pencarian keyword
+ * 
+ * Judul, penulis, dan kategori dipecah menjadi token huruf kecil.
+ * Setiap token menyimpan daftar ID buku yang mengandung token tersebut.
+ * 
+ * Pencarian: setiap token pada keyword dicocokkan sebagai prefix token di index,
+ * lalu hasil antar token di-intersect (semua token harus ada).
+ * Contoh: keyword "clean co" cocok dengan "Clean Code".
+ */
+@Component
+public class KeywordIndex implements BookIndex {
+    
+    /**
+     * Token -> ID buku. Skip list dipakai agar pencarian prefix cukup dengan subMap.
+     */
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    
+    @Override
+    public synchronized void clear() {
+        postings.clear();
+    }
+    
+    /**
+     * Penulisan diserialisasi, pembacaan tetap berjalan tanpa lock
+     */
+    @Override
+    public synchronized void apply(BookSnapshot before, BookSnapshot after) {
+        Set<String> oldTokens = before != null ? tokensOf(before) : Collections.emptySet();
+        Set<String> newTokens = after != null ? tokensOf(after) : Collections.emptySet();
+        
+        if (before != null) {
+            for (String token : oldTokens) {
+                if (!newTokens.contains(token)) {
+                    removePosting(token, before.id());
+                }
+            }
+        }
+        if (after != null) {
+            for (String token : newTokens) {
+                if (!oldTokens.contains(token)) {
+                    postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(after.id());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Mencari ID buku yang cocok dengan keyword, diurutkan berdasarkan ID
+     * @return null jika keyword tidak mengandung token sama sekali
+     */
+    public List<Long> search(String keyword) {
+        List<String> queryTokens = tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return null;
+        }
+        
+        Set<Long> result = null;
+        for (String token : queryTokens) {
+            Set<Long> matches = new HashSet<>();
+            for (Set<Long> ids : postings.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+                matches.addAll(ids);
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+        
+        List<Long> ids = new ArrayList<>(result);
+        Collections.sort(ids);
+        return ids;
+    }
+    
+    /**
+     * Jumlah token unik di index
+     */
+    public int size() {
+        return postings.size();
+    }
+    
+    private void removePosting(String token, Long id) {
+        postings.computeIfPresent(token, (t, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+    
+    private static Set<String> tokensOf(BookSnapshot book) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokens.addAll(tokenize(book.title()));
+        tokens.addAll(tokenize(book.author()));
+        tokens.addAll(tokenize(book.category()));
+        return tokens;
+    }
+    
+    /**
+     * Memecah teks menjadi token huruf kecil berdasarkan karakter selain huruf/angka
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            if (Character.isLetterOrDigit(lower.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lower.substring(start));
+        }
+        return tokens;
+    }
+}
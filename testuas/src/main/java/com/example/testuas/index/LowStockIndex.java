@@ -0,0 +1,156 @@
+package com.example.testuas.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index in-memory untuk buku dengan stok rendah
+ *
+ * Buku dianggap stok rendah jika stok <= threshold kategorinya
+ * (app.low-stock.category-thresholds, selain itu app.low-stock.default-threshold).
+ * Hanya buku stok rendah yang disimpan, sebagai (stok, ID) terurut di TreeSet,
+ * sehingga daftar stok rendah dibaca dalam O(k) tanpa scan tabel.
+ */
+@Component
+public class LowStockIndex implements BookIndex {
+
+    /**
+     * Satu buku stok rendah
+     */
+    public record Entry(int stockQuantity, long id) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::stockQuantity)
+            .thenComparingLong(Entry::id);
+
+    private final int defaultThreshold;
+    private final Map<String, Integer> categoryThresholds;
+    private final NavigableSet<Entry> entries = new TreeSet<>(ORDER);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LowStockIndex(@Value("${app.low-stock.default-threshold:5}") int defaultThreshold,
+                         @Value("${app.low-stock.category-thresholds:}") String categoryThresholds) {
+        this.defaultThreshold = defaultThreshold;
+        this.categoryThresholds = parseThresholds(categoryThresholds);
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(BookSnapshot before, BookSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null && before.stockQuantity() != null) {
+                entries.remove(new Entry(before.stockQuantity(), before.id()));
+            }
+            if (after != null && isLow(after)) {
+                entries.add(new Entry(after.stockQuantity(), after.id()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apakah stok buku berada pada atau di bawah threshold kategorinya
+     */
+    public boolean isLow(BookSnapshot book) {
+        return book.stockQuantity() != null && book.stockQuantity() <= thresholdFor(book.category());
+    }
+
+    /**
+     * Threshold stok rendah untuk kategori (case-insensitive)
+     */
+    public int thresholdFor(String category) {
+        if (category == null) {
+            return defaultThreshold;
+        }
+        return categoryThresholds.getOrDefault(category.trim().toUpperCase(Locale.ROOT), defaultThreshold);
+    }
+
+    /**
+     * Semua buku stok rendah, urut stok lalu ID
+     */
+    public List<Entry> entries() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Paling banyak limit buku stok rendah setelah (stockQuantity, id), urut stok lalu ID
+     */
+    public List<Entry> entriesAfter(int stockQuantity, long id, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> page = new ArrayList<>(limit);
+            for (Entry entry : entries.tailSet(new Entry(stockQuantity, id), false)) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(entry);
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah buku stok rendah
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Membaca format "Kategori:threshold,Kategori:threshold", misalnya "Fiction:10,Programming:3"
+     */
+    static Map<String, Integer> parseThresholds(String value) {
+        Map<String, Integer> thresholds = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return Collections.unmodifiableMap(thresholds);
+        }
+        for (String pair : value.split(",")) {
+            int separator = pair.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Format threshold kategori tidak valid: " + pair);
+            }
+            try {
+                thresholds.put(pair.substring(0, separator).trim().toUpperCase(Locale.ROOT),
+                        Integer.parseInt(pair.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Threshold kategori harus berupa angka: " + pair);
+            }
+        }
+        return Collections.unmodifiableMap(thresholds);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.testuas.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Index trigram untuk pencarian substring ("containing") pada judul dan penulis
+ * 
+ * Setiap teks dipecah menjadi potongan 3 karakter (trigram). Setiap trigram menyimpan
+ * posting list berupa array int terurut berisi ID buku, sehingga tidak ada objek
+ * Long per entri yang menambah beban GC.
+ * 
+ * Hasil candidates adalah kandidat: semua trigram dari query ada di teks buku,
+ * tetapi urutannya belum tentu sama. Index sengaja tidak menyimpan salinan teks;
+ * kandidat diverifikasi terhadap baris yang diambil dari database (BookService).
+ */
+@Component
+public class TrigramIndex implements BookIndex {
+    
+    /**
+     * Panjang query minimal agar index bisa dipakai
+     */
+    public static final int MIN_QUERY_LENGTH = 3;
+    
+    private final Postings titles = new Postings();
+    private final Postings authors = new Postings();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            titles.clear();
+            authors.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void apply(BookSnapshot before, BookSnapshot after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                int id = toDocId(before.id());
+                titles.remove(id, before.title());
+                authors.remove(id, before.author());
+            }
+            if (after != null) {
+                int id = toDocId(after.id());
+                titles.add(id, after.title());
+                authors.add(id, after.author());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Kandidat ID buku yang judulnya mungkin mengandung query
+     */
+    public int[] titleCandidates(String query) {
+        lock.readLock().lock();
+        try {
+            return titles.candidates(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Kandidat ID buku yang nama penulisnya mungkin mengandung query
+     */
+    public int[] authorCandidates(String query) {
+        lock.readLock().lock();
+        try {
+            return authors.candidates(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Irisan dua daftar kandidat yang sama-sama terurut
+     */
+    public static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+    
+    /**
+     * Normalisasi teks yang dipakai index dan verifikasi kandidat
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    private static int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+    
+    /**
+     * Kumpulan posting list untuk satu kolom
+     */
+    private static final class Postings {
+        
+        private final Map<Long, IntList> lists = new HashMap<>();
+        
+        void clear() {
+            lists.clear();
+        }
+        
+        void add(int id, String text) {
+            for (long trigram : trigrams(normalize(text))) {
+                lists.computeIfAbsent(trigram, t -> new IntList()).add(id);
+            }
+        }
+        
+        void remove(int id, String text) {
+            for (long trigram : trigrams(normalize(text))) {
+                IntList list = lists.get(trigram);
+                if (list != null && list.remove(id) && list.size == 0) {
+                    lists.remove(trigram);
+                }
+            }
+        }
+        
+        int[] candidates(String query) {
+            long[] grams = trigrams(normalize(query));
+            IntList[] selected = new IntList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                selected[i] = lists.get(grams[i]);
+                if (selected[i] == null) {
+                    return new int[0];
+                }
+            }
+            
+            // Mulai dari posting list terpendek agar irisan cepat mengecil
+            Arrays.sort(selected, (a, b) -> Integer.compare(a.size, b.size));
+            int[] result = Arrays.copyOf(selected[0].values, selected[0].size);
+            for (int i = 1; i < selected.length && result.length > 0; i++) {
+                result = selected[i].retain(result);
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Trigram unik dari teks, masing-masing dikodekan 3 x 16 bit ke dalam long
+     */
+    private static long[] trigrams(String text) {
+        if (text.length() < MIN_QUERY_LENGTH) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+    
+    /**
+     * Array int terurut yang bisa tumbuh, dipakai sebagai posting list
+     */
+    private static final class IntList {
+        
+        private int[] values = new int[4];
+        private int size = 0;
+        
+        void add(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, pos, values, pos + 1, size - pos);
+            values[pos] = value;
+            size++;
+        }
+        
+        boolean remove(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+        
+        /**
+         * Menyisakan nilai dari candidates yang juga ada di list ini
+         */
+        int[] retain(int[] candidates) {
+            int[] result = new int[candidates.length];
+            int n = 0;
+            int from = 0;
+            for (int candidate : candidates) {
+                int pos = Arrays.binarySearch(values, from, size, candidate);
+                if (pos >= 0) {
+                    result[n++] = candidate;
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            }
+            return Arrays.copyOf(result, n);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.testuas.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.testuas.entity.Book;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repository JDBC untuk memasukkan buku dalam jumlah besar
+ * 
+ * - ID dialokasikan per blok dari sequence books_seq (semantik pooled-lo yang sama dengan Hibernate)
+ * - Baris disimpan dengan JDBC batch INSERT, tanpa persistence context
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBulkRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO books (id, title, author, isbn, publication_year, category, description, " +
+            "stock_quantity, price, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Mengalokasikan sejumlah ID baru dari sequence books_seq
+     * Setiap nilai sequence v mencadangkan ID v sampai v + ID_ALLOCATION_SIZE - 1
+     */
+    public long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        
+        int blocks = (count + Book.ID_ALLOCATION_SIZE - 1) / Book.ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "SELECT NEXT VALUE FOR books_seq FROM SYSTEM_RANGE(1, ?)", Long.class, blocks);
+        
+        int n = 0;
+        for (long start : blockStarts) {
+            for (int i = 0; i < Book.ID_ALLOCATION_SIZE && n < count; i++) {
+                ids[n++] = start + i;
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * Menyimpan buku (ID sudah terisi) dengan satu JDBC batch
+     * createdAt/updatedAt yang kosong diisi waktu sekarang
+     */
+    public void insertAll(List<Book> books) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, books, books.size(), (ps, book) -> bind(ps, book, now));
+    }
+    
+    /**
+     * Mengosongkan tabel books dan mengulang sequence ID dari 1
+     * Dipakai generator dataset agar ID hasil generate selalu sama
+     */
+    public void truncateAndRestartIds() {
+        jdbcTemplate.execute("TRUNCATE TABLE books");
+        jdbcTemplate.execute("ALTER SEQUENCE books_seq RESTART WITH 1");
+    }
+    
+    /**
+     * Semua ISBN yang sudah terdaftar, dimuat sekali untuk validasi keunikan
+     */
+    public Set<String> findAllIsbns() {
+        Set<String> isbns = new HashSet<>();
+        jdbcTemplate.query("SELECT isbn FROM books WHERE isbn IS NOT NULL",
+                rs -> {
+                    isbns.add(rs.getString(1));
+                });
+        return isbns;
+    }
+    
+    private static void bind(PreparedStatement ps, Book book, Timestamp now) throws SQLException {
+        ps.setLong(1, book.getId());
+        ps.setString(2, book.getTitle());
+        ps.setString(3, book.getAuthor());
+        ps.setString(4, book.getIsbn());
+        ps.setObject(5, book.getPublicationYear(), Types.INTEGER);
+        ps.setString(6, book.getCategory());
+        ps.setString(7, book.getDescription());
+        ps.setInt(8, book.getStockQuantity());
+        ps.setObject(9, book.getPrice(), Types.DOUBLE);
+        ps.setString(10, book.getStatus().name());
+        ps.setTimestamp(11, book.getCreatedAt() != null ? Timestamp.valueOf(book.getCreatedAt()) : now);
+        ps.setTimestamp(12, book.getUpdatedAt() != null ? Timestamp.valueOf(book.getUpdatedAt()) : now);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.testuas.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.testuas.dto.BookFacets;
+import com.example.testuas.entity.Book;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repository JDBC untuk facet count katalog
+ * 
+ * Semua facet dihitung dari satu query GROUP BY (kategori, status, dekade, rentang harga).
+ * Jumlah kombinasinya kecil (puluhan kategori x 5 status x dekade x rentang harga),
+ * sehingga penjumlahan per facet dilakukan di Java tanpa memuat satu pun entitas.
+ * Kategori dikelompokkan per category_key (UPPER(category)), sama seperti filter kategori,
+ * sehingga "Fiksi" dan "fiksi" menjadi satu bucket dengan label ejaan terkecil secara leksikografis.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookFacetRepository {
+    
+    /**
+     * Batas bawah rentang harga (kecuali rentang pertama yang mulai dari 0)
+     */
+    static final long[] PRICE_BOUNDARIES = {50_000, 100_000, 200_000, 500_000};
+    
+    private static final String FACET_SQL_TEMPLATE =
+            "SELECT category_key, MIN(category), status, decade, price_bucket, COUNT(*) FROM (" +
+            "  SELECT category_key, category, status, publication_year / 10 * 10 AS decade, %s AS price_bucket " +
+            "  FROM books WHERE 1 = 1%s" +
+            ") f GROUP BY category_key, status, decade, price_bucket";
+    
+    private static final String PRICE_BUCKET_SQL = priceBucketSql();
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Menghitung facet untuk buku yang cocok dengan filter (semua parameter opsional)
+     * @param ids jika tidak null, hanya buku dengan ID ini yang dihitung (hasil KeywordIndex)
+     * @param keyword dipakai sebagai filter LIKE hanya jika ids null
+     */
+    public BookFacets countFacets(String category, Book.BookStatus status, String keyword, Collection<Long> ids) {
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (category != null) {
+            where.append(" AND category_key = UPPER(?)");
+            args.add(category);
+        }
+        if (status != null) {
+            where.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (ids != null) {
+            where.append(" AND id = ANY(?)");
+            args.add(ids.toArray(new Long[0]));
+        } else if (keyword != null) {
+            where.append(" AND (LOWER(title) LIKE ? OR LOWER(author) LIKE ? OR LOWER(category) LIKE ?)");
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        
+        Map<String, Long> categories = new LinkedHashMap<>();
+        Map<String, String> categoryLabels = new LinkedHashMap<>();
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        Map<Integer, Long> decades = new TreeMap<>();
+        long[] priceBuckets = new long[PRICE_BOUNDARIES.length + 1];
+        long[] total = new long[1];
+        for (Book.BookStatus value : Book.BookStatus.values()) {
+            statuses.put(value.name(), 0L);
+        }
+        
+        String sql = String.format(FACET_SQL_TEMPLATE, PRICE_BUCKET_SQL, where);
+        jdbcTemplate.query(sql, rs -> {
+            String rowCategoryKey = rs.getString(1);
+            String rowCategory = rs.getString(2);
+            String rowStatus = rs.getString(3);
+            int decade = rs.getInt(4);
+            boolean hasDecade = !rs.wasNull();
+            int bucket = rs.getInt(5);
+            boolean hasPrice = !rs.wasNull();
+            long count = rs.getLong(6);
+            
+            total[0] += count;
+            if (rowCategoryKey != null) {
+                // MIN(category) berlaku per grup status/dekade/harga, jadi label dipilih ulang di sini
+                categories.merge(rowCategoryKey, count, Long::sum);
+                categoryLabels.merge(rowCategoryKey, rowCategory, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+            }
+            statuses.merge(rowStatus, count, Long::sum);
+            if (hasDecade) {
+                decades.merge(decade, count, Long::sum);
+            }
+            if (hasPrice) {
+                priceBuckets[bucket] += count;
+            }
+        }, args.toArray());
+        
+        Map<String, Long> labeledCategories = new LinkedHashMap<>();
+        categories.forEach((key, count) -> labeledCategories.put(categoryLabels.get(key), count));
+        return new BookFacets(total[0], sortByCount(labeledCategories), statuses, decadeLabels(decades),
+                priceRangeLabels(priceBuckets));
+    }
+    
+    private static Map<String, Long> sortByCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEachOrdered(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+    
+    private static Map<String, Long> decadeLabels(Map<Integer, Long> decades) {
+        Map<String, Long> labels = new LinkedHashMap<>();
+        decades.forEach((decade, count) -> labels.put(Integer.toString(decade), count));
+        return labels;
+    }
+    
+    private static Map<String, Long> priceRangeLabels(long[] buckets) {
+        Map<String, Long> labels = new LinkedHashMap<>();
+        long lower = 0;
+        for (int i = 0; i < PRICE_BOUNDARIES.length; i++) {
+            labels.put(lower + "-" + PRICE_BOUNDARIES[i], buckets[i]);
+            lower = PRICE_BOUNDARIES[i];
+        }
+        labels.put(lower + "+", buckets[PRICE_BOUNDARIES.length]);
+        return labels;
+    }
+    
+    /**
+     * CASE yang memetakan harga ke nomor rentang (0 sampai PRICE_BOUNDARIES.length), NULL jika harga kosong
+     */
+    private static String priceBucketSql() {
+        StringBuilder sql = new StringBuilder("CASE WHEN price IS NULL THEN NULL");
+        for (int i = 0; i < PRICE_BOUNDARIES.length; i++) {
+            sql.append(" WHEN price < ").append(PRICE_BOUNDARIES[i]).append(" THEN ").append(i);
+        }
+        return sql.append(" ELSE ").append(PRICE_BOUNDARIES.length).append(" END").toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.testuas.repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Repository;
+
+import com.example.testuas.dto.BookFieldSet;
+import com.example.testuas.entity.Book;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Repository untuk query buku dengan daftar kolom dinamis (sparse fieldset)
+ * 
+ * - SELECT hanya berisi kolom yang diminta, hasil berupa Tuple (bukan entitas managed)
+ * - String JPQL per kombinasi (bentuk query, field) dibuat sekali lalu disimpan di cache,
+ *   sehingga Hibernate juga bisa memakai ulang query plan-nya
+ * - Setiap baris dikembalikan sebagai Map field -> nilai dengan urutan BookFieldSet.FIELDS
+ * - Bentuk *_PAGE adalah keyset (WHERE kunci > cursor ORDER BY kunci) dan selalu dibatasi limit,
+ *   sehingga sparse fieldset bisa digabung dengan pagination tanpa memuat seluruh tabel
+ */
+@Repository
+public class BookFieldQueryRepository {
+    
+    /**
+     * Bentuk query yang didukung: klausa setelah FROM Book b
+     */
+    public enum Shape {
+        ALL(""),
+        BY_ID("WHERE b.id = :id"),
+        BY_IDS("WHERE b.id IN :ids ORDER BY b.id"),
+        BY_CATEGORY("WHERE b.categoryKey = UPPER(:category)"),
+        BY_STATUS("WHERE b.status = :status"),
+        LOW_STOCK("WHERE b.stockQuantity <= 5 ORDER BY b.stockQuantity ASC"),
+        PAGE("WHERE b.id > :after ORDER BY b.id ASC"),
+        BY_CATEGORY_PAGE("WHERE b.categoryKey = UPPER(:category) AND b.id > :after ORDER BY b.id ASC"),
+        BY_STATUS_PAGE("WHERE b.status = :status AND b.id > :after ORDER BY b.id ASC"),
+        LOW_STOCK_PAGE("WHERE b.stockQuantity <= 5 AND " +
+                "(b.stockQuantity > :stock OR (b.stockQuantity = :stock AND b.id > :after)) " +
+                "ORDER BY b.stockQuantity ASC, b.id ASC"),
+        KEYWORD("WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                "LOWER(b.category) LIKE LOWER(CONCAT('%', :keyword, '%'))");
+        
+        private final String clause;
+        
+        Shape(String clause) {
+            this.clause = clause;
+        }
+    }
+    
+    private final Map<Long, String> queryCache = new ConcurrentHashMap<>();
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public List<Map<String, Object>> findAll(BookFieldSet fields) {
+        return list(query(Shape.ALL, fields));
+    }
+    
+    public List<Map<String, Object>> findById(Long id, BookFieldSet fields) {
+        return list(query(Shape.BY_ID, fields).setParameter("id", id));
+    }
+    
+    public List<Map<String, Object>> findByIds(Collection<Long> ids, BookFieldSet fields) {
+        return list(query(Shape.BY_IDS, fields).setParameter("ids", ids));
+    }
+    
+    public List<Map<String, Object>> findByCategory(String category, BookFieldSet fields) {
+        return list(query(Shape.BY_CATEGORY, fields).setParameter("category", category));
+    }
+    
+    public List<Map<String, Object>> findByStatus(Book.BookStatus status, BookFieldSet fields) {
+        return list(query(Shape.BY_STATUS, fields).setParameter("status", status));
+    }
+    
+    public List<Map<String, Object>> findLowStock(BookFieldSet fields) {
+        return list(query(Shape.LOW_STOCK, fields));
+    }
+    
+    public List<Map<String, Object>> findPage(long after, int limit, BookFieldSet fields) {
+        return list(query(Shape.PAGE, fields).setParameter("after", after).setMaxResults(limit));
+    }
+    
+    public List<Map<String, Object>> findByCategoryPage(String category, long after, int limit, BookFieldSet fields) {
+        return list(query(Shape.BY_CATEGORY_PAGE, fields)
+                .setParameter("category", category)
+                .setParameter("after", after)
+                .setMaxResults(limit));
+    }
+    
+    public List<Map<String, Object>> findByStatusPage(Book.BookStatus status, long after, int limit,
+                                                      BookFieldSet fields) {
+        return list(query(Shape.BY_STATUS_PAGE, fields)
+                .setParameter("status", status)
+                .setParameter("after", after)
+                .setMaxResults(limit));
+    }
+    
+    public List<Map<String, Object>> findLowStockPage(int stock, long after, int limit, BookFieldSet fields) {
+        return list(query(Shape.LOW_STOCK_PAGE, fields)
+                .setParameter("stock", stock)
+                .setParameter("after", after)
+                .setMaxResults(limit));
+    }
+    
+    public List<Map<String, Object>> searchByKeyword(String keyword, BookFieldSet fields) {
+        return list(query(Shape.KEYWORD, fields).setParameter("keyword", keyword));
+    }
+    
+    /**
+     * Jumlah bentuk query yang sudah dibuat (untuk pemantauan)
+     */
+    public int cachedQueryCount() {
+        return queryCache.size();
+    }
+    
+    private TypedQuery<Tuple> query(Shape shape, BookFieldSet fields) {
+        long key = ((long) shape.ordinal() << 32) | fields.mask();
+        String jpql = queryCache.computeIfAbsent(key, k -> buildJpql(shape, fields));
+        return entityManager.createQuery(jpql, Tuple.class);
+    }
+    
+    private static String buildJpql(Shape shape, BookFieldSet fields) {
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        List<String> names = fields.names();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            // Nama field sudah divalidasi BookFieldSet, aman dipakai langsung di JPQL
+            jpql.append("b.").append(names.get(i)).append(" AS ").append(names.get(i));
+        }
+        jpql.append(" FROM Book b ").append(shape.clause);
+        return jpql.toString();
+    }
+    
+    private static List<Map<String, Object>> list(TypedQuery<Tuple> query) {
+        return query.getResultList().stream()
+                .map(BookFieldQueryRepository::toMap)
+                .toList();
+    }
+    
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        tuple.getElements().forEach(element -> row.put(element.getAlias(), tuple.get(element)));
+        return row;
+    }
+}
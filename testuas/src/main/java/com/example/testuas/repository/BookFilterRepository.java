@@ -0,0 +1,89 @@
+package com.example.testuas.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import com.example.testuas.dto.BookFilter;
+import com.example.testuas.dto.BookSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Query JPQL dinamis untuk filter gabungan
+ * 
+ * Hanya dipakai selama BookBitmapIndex belum selesai dibangun; semantiknya sama dengan index
+ * (OR di dalam satu kriteria, AND antar kriteria, exclude sebagai NOT, range inklusif).
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookFilterRepository {
+    
+    private final EntityManager entityManager;
+    
+    /**
+     * Satu halaman proyeksi ringkas yang cocok dengan filter, ID lebih besar dari afterId, urut ID
+     */
+    public List<BookSummary> findSummaries(BookFilter filter, long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(BookRepository.SUMMARY_SELECT).append("WHERE b.id > :afterId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("afterId", afterId);
+        
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            jpql.append(" AND b.status IN :status");
+            parameters.put("status", filter.getStatus());
+        }
+        if (filter.getCategory() != null && !filter.getCategory().isEmpty()) {
+            jpql.append(" AND b.categoryKey IN :category");
+            parameters.put("category", categoryKeys(filter.getCategory()));
+        }
+        if (filter.getYearFrom() != null) {
+            jpql.append(" AND b.publicationYear >= :yearFrom");
+            parameters.put("yearFrom", filter.getYearFrom());
+        }
+        if (filter.getYearTo() != null) {
+            jpql.append(" AND b.publicationYear <= :yearTo");
+            parameters.put("yearTo", filter.getYearTo());
+        }
+        if (filter.getMinPrice() != null) {
+            jpql.append(" AND b.price >= :minPrice");
+            parameters.put("minPrice", filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            jpql.append(" AND b.price <= :maxPrice");
+            parameters.put("maxPrice", filter.getMaxPrice());
+        }
+        if (filter.getMinStock() != null) {
+            jpql.append(" AND b.stockQuantity >= :minStock");
+            parameters.put("minStock", filter.getMinStock());
+        }
+        if (filter.getMaxStock() != null) {
+            jpql.append(" AND b.stockQuantity <= :maxStock");
+            parameters.put("maxStock", filter.getMaxStock());
+        }
+        if (filter.getExcludeStatus() != null && !filter.getExcludeStatus().isEmpty()) {
+            jpql.append(" AND b.status NOT IN :excludeStatus");
+            parameters.put("excludeStatus", filter.getExcludeStatus());
+        }
+        if (filter.getExcludeCategory() != null && !filter.getExcludeCategory().isEmpty()) {
+            jpql.append(" AND (b.categoryKey IS NULL OR b.categoryKey NOT IN :excludeCategory)");
+            parameters.put("excludeCategory", categoryKeys(filter.getExcludeCategory()));
+        }
+        jpql.append(" ORDER BY b.id");
+        
+        TypedQuery<BookSummary> query = entityManager.createQuery(jpql.toString(), BookSummary.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+    
+    private static List<String> categoryKeys(List<String> categories) {
+        return categories.stream()
+                .map(category -> category.trim().toUpperCase(Locale.ROOT))
+                .toList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.testuas.repository;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.index.BookRangeIndex;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Query JPQL keyset untuk range harga dan tahun terbit
+ *
+ * Hanya dipakai selama BookRangeIndex belum selesai dibangun; urutan dan cursor sama dengan index,
+ * yaitu (nilai, ID) naik atau turun, range inklusif.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookRangeRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Satu halaman proyeksi ringkas dengan from <= nilai <= to, setelah cursor (afterKey, afterId)
+     * @param afterKey nilai entri terakhir halaman sebelumnya, null untuk halaman pertama
+     */
+    public List<BookSummary> findSummaries(BookRangeIndex.Field field, double from, double to, boolean descending,
+                                           Double afterKey, long afterId, int limit) {
+        String column = field == BookRangeIndex.Field.PRICE ? "b.price" : "b.publicationYear";
+        String direction = descending ? "DESC" : "ASC";
+        String after = descending ? "<" : ">";
+
+        StringBuilder jpql = new StringBuilder(BookRepository.SUMMARY_SELECT)
+                .append("WHERE ").append(column).append(" BETWEEN :from AND :to");
+        if (afterKey != null) {
+            jpql.append(" AND (").append(column).append(' ').append(after).append(" :afterKey OR (")
+                    .append(column).append(" = :afterKey AND b.id ").append(after).append(" :afterId))");
+        }
+        jpql.append(" ORDER BY ").append(column).append(' ').append(direction)
+                .append(", b.id ").append(direction);
+
+        TypedQuery<BookSummary> query = entityManager.createQuery(jpql.toString(), BookSummary.class);
+        query.setParameter("from", value(field, from));
+        query.setParameter("to", value(field, to));
+        if (afterKey != null) {
+            query.setParameter("afterKey", value(field, afterKey));
+            query.setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Parameter mengikuti tipe kolom: Double untuk price, Integer untuk publicationYear
+     */
+    private static Object value(BookRangeIndex.Field field, double value) {
+        if (field == BookRangeIndex.Field.PRICE) {
+            return value;
+        }
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+}
@@ -1,15 +1,23 @@
 package com.example.testuas.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.testuas.dto.BookSummary;
 import com.example.testuas.entity.Book;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository untuk entitas Book
  * 
@@ -25,6 +33,13 @@ import com.example.testuas.entity.Book;
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
     
+    /**
+     * Klausa SELECT untuk proyeksi BookSummary (tanpa description dan timestamp)
+     */
+    String SUMMARY_SELECT = "SELECT new com.example.testuas.dto.BookSummary(" +
+            "b.id, b.title, b.author, b.isbn, b.publicationYear, b.category, b.stockQuantity, b.price, b.status) " +
+            "FROM Book b ";
+    
     /**
      * Mencari buku berdasarkan judul (case-insensitive)
      * Method ini akan otomatis diimplementasikan oleh Spring Data JPA
@@ -43,9 +58,11 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     Optional<Book> findByIsbn(String isbn);
     
     /**
-     * Mencari buku berdasarkan kategori
+     * Mencari buku berdasarkan kategori (case-insensitive)
+     * Memakai kolom category_key (UPPER(category)) agar index idx_books_category_key terpakai
      */
-    List<Book> findByCategoryIgnoreCase(String category);
+    @Query("SELECT b FROM Book b WHERE b.categoryKey = UPPER(:category)")
+    List<Book> findByCategoryIgnoreCase(@Param("category") String category);
     
     /**
      * Mencari buku berdasarkan tahun terbit
@@ -95,6 +112,19 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @Query("SELECT COUNT(b) FROM Book b WHERE b.status = :status")
     Long countByStatus(@Param("status") Book.BookStatus status);
     
+    /**
+     * Query custom untuk menghitung total nilai inventaris (harga x stok)
+     */
+    @Query("SELECT SUM(b.price * b.stockQuantity) FROM Book b")
+    Double getTotalInventoryValue();
+    
+    /**
+     * Ringkasan per status dalam satu query: [status, jumlah buku, total stok, nilai inventaris]
+     */
+    @Query("SELECT b.status, COUNT(b), SUM(b.stockQuantity), SUM(b.price * b.stockQuantity) " +
+           "FROM Book b GROUP BY b.status")
+    List<Object[]> summarizeByStatus();
+    
     /**
      * Query custom untuk mencari buku dengan stok rendah (<= 5)
      */
@@ -106,4 +136,92 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     @Query("SELECT b FROM Book b WHERE b.publicationYear >= :year ORDER BY b.publicationYear DESC")
     List<Book> findRecentBooks(@Param("year") Integer year);
+    
+    /**
+     * Pagination keyset (proyeksi ringkas): buku dengan ID lebih besar dari cursor (WHERE id > ?)
+     * Biaya setiap halaman sama karena tidak memakai OFFSET
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.id > :id ORDER BY b.id ASC")
+    List<BookSummary> findSummariesAfter(@Param("id") Long id, Limit limit);
+    
+    /**
+     * Pagination keyset untuk buku berdasarkan kategori (index category_key + id)
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.categoryKey = UPPER(:category) AND b.id > :id ORDER BY b.id ASC")
+    List<BookSummary> findSummariesByCategoryAfter(@Param("category") String category,
+            @Param("id") Long id, Limit limit);
+    
+    /**
+     * Pagination keyset untuk buku berdasarkan status
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.status = :status AND b.id > :id ORDER BY b.id ASC")
+    List<BookSummary> findSummariesByStatusAfter(@Param("status") Book.BookStatus status,
+            @Param("id") Long id, Limit limit);
+    
+    /**
+     * Pagination keyset untuk buku berdasarkan penulis (case-insensitive)
+     */
+    @Query(SUMMARY_SELECT + "WHERE UPPER(b.author) LIKE UPPER(CONCAT('%', :author, '%')) AND b.id > :id ORDER BY b.id ASC")
+    List<BookSummary> findSummariesByAuthorAfter(@Param("author") String author,
+            @Param("id") Long id, Limit limit);
+    
+    /**
+     * Pagination keyset untuk buku dengan stok rendah
+     * Urutan (stok, ID) sehingga cursor berisi stok dan ID baris terakhir
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.stockQuantity <= 5 AND " +
+           "(b.stockQuantity > :stock OR (b.stockQuantity = :stock AND b.id > :id)) " +
+           "ORDER BY b.stockQuantity ASC, b.id ASC")
+    List<BookSummary> findLowStockSummariesAfter(@Param("stock") Integer stock, @Param("id") Long id, Limit limit);
+    
+    /**
+     * Membaca seluruh buku sebagai Stream (urut berdasarkan ID)
+     * Baris diambil dari JDBC per fetch size, bukan dimuat sekaligus ke memory.
+     * Harus dipanggil di dalam transaksi dan Stream wajib ditutup setelah dipakai.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b ORDER BY b.id")
+    Stream<Book> streamAllOrderById();
+    
+    /**
+     * Proyeksi ringkas semua buku
+     */
+    @Query(SUMMARY_SELECT)
+    List<BookSummary> findAllSummaries();
+    
+    /**
+     * Proyeksi ringkas buku dengan ID tertentu (urut berdasarkan ID)
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.id IN :ids ORDER BY b.id")
+    List<BookSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Proyeksi ringkas buku berdasarkan kategori (case-insensitive)
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.categoryKey = UPPER(:category)")
+    List<BookSummary> findSummariesByCategory(@Param("category") String category);
+    
+    /**
+     * Proyeksi ringkas buku berdasarkan status
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.status = :status")
+    List<BookSummary> findSummariesByStatus(@Param("status") Book.BookStatus status);
+    
+    /**
+     * Proyeksi ringkas buku dengan stok rendah (<= 5)
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.stockQuantity <= 5 ORDER BY b.stockQuantity ASC")
+    List<BookSummary> findLowStockSummaries();
+    
+    /**
+     * Proyeksi ringkas hasil pencarian keyword di judul, penulis, atau kategori
+     */
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(b.category) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<BookSummary> searchSummariesByKeyword(@Param("keyword") String keyword);
 } 
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.example.testuas.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.testuas.entity.Book;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repository JDBC untuk perubahan stok yang atomik
+ * 
+ * Stok diubah dengan satu UPDATE bersyarat (stok tidak boleh menjadi negatif),
+ * status dihitung ulang di statement yang sama. Tidak ada siklus load-modify-save
+ * maupun lock pesimis, sehingga dua request bersamaan tidak bisa saling menimpa.
+ * 
+ * UPDATE dibungkus dengan OLD TABLE (fitur data change delta table H2) agar
+ * kondisi baris sebelum perubahan ikut dikembalikan untuk pembaruan index.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookStockRepository {
+    
+    private static final String ADJUST_STOCK_SQL =
+            "SELECT id, title, author, isbn, publication_year, category, stock_quantity, price, status " +
+            "FROM OLD TABLE (" +
+            "  UPDATE books SET " +
+            "    stock_quantity = stock_quantity + ?, " +
+            "    status = CASE WHEN stock_quantity + ? > 0 THEN 'AVAILABLE' ELSE 'BORROWED' END, " +
+            "    updated_at = LOCALTIMESTAMP " +
+            "  WHERE id = ? AND stock_quantity + ? >= 0" +
+            ")";
+    
+    private static final String LOCK_FOR_UPDATE_SQL =
+            "SELECT id, title, author, isbn, publication_year, category, stock_quantity, price, status " +
+            "FROM books WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    
+    private static final String SET_STOCK_SQL =
+            "UPDATE books SET " +
+            "  stock_quantity = ?, " +
+            "  status = CASE WHEN ? > 0 THEN 'AVAILABLE' ELSE 'BORROWED' END, " +
+            "  updated_at = LOCALTIMESTAMP " +
+            "WHERE id = ?";
+    
+    /**
+     * Memetakan kolom yang dibutuhkan index (tanpa description dan timestamp)
+     */
+    public static final RowMapper<Book> SNAPSHOT_ROW_MAPPER = BookStockRepository::mapSnapshotRow;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    /**
+     * Menambah (delta positif) atau mengurangi (delta negatif) stok secara atomik
+     * @return kondisi buku sebelum perubahan, kosong jika buku tidak ada atau stok tidak mencukupi
+     */
+    public Optional<Book> adjustStock(long id, int delta) {
+        List<Book> before = jdbcTemplate.query(ADJUST_STOCK_SQL, SNAPSHOT_ROW_MAPPER, delta, delta, id, delta);
+        return before.stream().findFirst();
+    }
+    
+    /**
+     * Mengunci baris buku (SELECT ... FOR UPDATE, urut ID) untuk penyesuaian stok batch
+     * @return buku yang ditemukan, dengan ID sebagai key
+     */
+    public Map<Long, Book> lockForUpdate(Collection<Long> ids) {
+        Map<Long, Book> books = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return books;
+        }
+        namedParameterJdbcTemplate.query(LOCK_FOR_UPDATE_SQL, Map.of("ids", ids), SNAPSHOT_ROW_MAPPER)
+                .forEach(book -> books.put(book.getId(), book));
+        return books;
+    }
+    
+    /**
+     * Menyimpan stok baru untuk banyak buku dalam satu JDBC batch
+     * Baris harus sudah dikunci dengan {@link #lockForUpdate(Collection)} di transaksi yang sama
+     */
+    public void setStock(Map<Long, Integer> newStock) {
+        List<Object[]> rows = new ArrayList<>(newStock.size());
+        newStock.forEach((id, stock) -> rows.add(new Object[] {stock, stock, id}));
+        jdbcTemplate.batchUpdate(SET_STOCK_SQL, rows);
+    }
+    
+    private static Book mapSnapshotRow(ResultSet rs, int rowNum) throws SQLException {
+        Book book = new Book();
+        book.setId(rs.getLong("id"));
+        book.setTitle(rs.getString("title"));
+        book.setAuthor(rs.getString("author"));
+        book.setIsbn(rs.getString("isbn"));
+        book.setPublicationYear(rs.getObject("publication_year", Integer.class));
+        book.setCategory(rs.getString("category"));
+        book.setStockQuantity(rs.getInt("stock_quantity"));
+        book.setPrice(rs.getObject("price", Double.class));
+        book.setStatus(Book.BookStatus.valueOf(rs.getString("status")));
+        return book;
+    }
+}
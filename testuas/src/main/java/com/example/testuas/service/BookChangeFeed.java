@@ -0,0 +1,264 @@
+package com.example.testuas.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.testuas.dto.BookChangeEvent;
+import com.example.testuas.dto.BookChangePage;
+import com.example.testuas.index.BookChangeListener;
+import com.example.testuas.index.BookSnapshot;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Change feed katalog: log event create/update/delete/perubahan stok dengan nomor urut monoton
+ *
+ * - Event dicatat oleh BookIndexMaintainer setelah commit, jadi tidak pernah berisi perubahan yang di-rollback
+ * - Disimpan di ring buffer in-memory berukuran tetap (app.changes.capacity); event tertua tertimpa
+ * - Nomor urut dimulai dari waktu start aplikasi (ms) x 1000, sehingga sequence dari proses sebelumnya
+ *   selalu lebih kecil dan terdeteksi sebagai di luar retensi setelah restart
+ * - Client yang tertinggal lebih jauh dari retensi diminta resync (muat ulang data penuh),
+ *   begitu juga semua client setelah index dibangun ulang atau batch import (isi katalog berubah tanpa event per buku)
+ *
+ * Dibaca lewat GET /api/books/changes?since= (delta) atau SSE /api/books/changes/stream
+ * (resume dengan Last-Event-ID). Pengiriman SSE berjalan di luar thread yang melakukan commit,
+ * dengan paling banyak satu task pengiriman per subscriber: client yang lambat hanya menahan
+ * pengirimannya sendiri, dan jika tertinggal lebih jauh dari retensi ia menerima resync.
+ */
+@Service
+@Slf4j
+public class BookChangeFeed implements BookChangeListener {
+
+    private final BookChangeEvent[] ring;
+    private final long emitterTimeoutMs;
+
+    /**
+     * Sequence awal retensi dan sequence event terakhir, dijaga oleh lock this
+     */
+    private long baseSequence;
+    private long latestSequence;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger dispatcherThreads = new AtomicInteger();
+    private final ExecutorService dispatcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "book-change-feed-" + dispatcherThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookChangeFeed(@Value("${app.changes.capacity:10000}") int capacity,
+                          @Value("${app.changes.sse-timeout:30m}") Duration sseTimeout) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasitas change feed harus lebih dari 0");
+        }
+        this.ring = new BookChangeEvent[capacity];
+        this.baseSequence = System.currentTimeMillis() * 1000;
+        this.latestSequence = baseSequence;
+        this.emitterTimeoutMs = sseTimeout.toMillis();
+    }
+
+    @Override
+    public void onChange(BookSnapshot before, BookSnapshot after) {
+        BookSnapshot book = after != null ? after : before;
+        synchronized (this) {
+            long sequence = ++latestSequence;
+            ring[slot(sequence)] = new BookChangeEvent(sequence, type(before, after), book.id(),
+                    after != null ? after.toSummary() : null, Instant.now());
+        }
+        signalAll();
+    }
+
+    /**
+     * Setelah rebuild, sequence dilompati satu dan retensi dimulai ulang,
+     * sehingga semua client (termasuk yang sudah up to date) diminta resync
+     */
+    @Override
+    public void onRebuild() {
+        restartRetention();
+    }
+
+    /**
+     * Batch import dilaporkan sebagai satu titik resync, bukan satu event CREATED per baris
+     * (import besar akan menimpa seluruh ring buffer dan membanjiri client SSE)
+     */
+    @Override
+    public void onBulkCreate(List<BookSnapshot> created) {
+        restartRetention();
+    }
+
+    private void restartRetention() {
+        synchronized (this) {
+            latestSequence++;
+            baseSequence = latestSequence;
+        }
+        signalAll();
+    }
+
+    /**
+     * Event dengan sequence > since (maksimal limit, default 50, maksimal 1000)
+     * Tanpa since hanya sequence terakhir yang dikembalikan, sebagai titik awal sebelum memuat data penuh
+     */
+    public synchronized BookChangePage since(Long since, Integer limit) {
+        if (since == null) {
+            return new BookChangePage(List.of(), latestSequence, false, false);
+        }
+        if (!isRetained(since)) {
+            return new BookChangePage(List.of(), latestSequence, true, false);
+        }
+        List<BookChangeEvent> events = read(since, PageCursor.normalizeLimit(limit));
+        long last = events.isEmpty() ? since : events.get(events.size() - 1).sequence();
+        return new BookChangePage(events, last, false, last < latestSequence);
+    }
+
+    /**
+     * Berlangganan event lewat SSE mulai setelah lastEventId
+     * Tanpa lastEventId hanya event baru yang dikirim.
+     * Jika lastEventId di luar retensi, dikirim event "resync" (id = sequence terakhir) lalu streaming berlanjut.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeoutMs), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber;
+        synchronized (this) {
+            subscriber = new Subscriber(emitter, lastEventId != null ? lastEventId : latestSequence);
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.info("Change feed subscriber connected after sequence {} ({} subscribers)", subscriber.cursor, subscribers.size());
+
+        signal(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Menghentikan pengiriman dan menutup semua koneksi SSE saat aplikasi berhenti
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdownNow();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void signalAll() {
+        for (Subscriber subscriber : subscribers) {
+            signal(subscriber);
+        }
+    }
+
+    /**
+     * Menjadwalkan pengiriman untuk satu subscriber jika belum ada task yang berjalan untuknya;
+     * sinyal yang datang selama pengiriman membuat task yang sama mengulang, bukan menambah task baru
+     */
+    private void signal(Subscriber subscriber) {
+        if (subscriber.signals.getAndIncrement() == 0 && !dispatcher.isShutdown()) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        int seen;
+        do {
+            seen = subscriber.signals.get();
+            deliver(subscriber);
+        } while (!subscriber.signals.compareAndSet(seen, 0));
+    }
+
+    /**
+     * Mengirim semua event setelah cursor subscriber; hanya dipanggil dari task drain subscriber tersebut
+     */
+    private void deliver(Subscriber subscriber) {
+        List<BookChangeEvent> events;
+        long resyncSequence = -1;
+        synchronized (this) {
+            if (isRetained(subscriber.cursor)) {
+                events = read(subscriber.cursor, Integer.MAX_VALUE);
+            } else {
+                events = List.of();
+                resyncSequence = latestSequence;
+            }
+        }
+        try {
+            if (resyncSequence >= 0) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(resyncSequence))
+                        .name("resync")
+                        .data(resyncSequence));
+                subscriber.cursor = resyncSequence;
+            }
+            for (BookChangeEvent event : events) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.sequence()))
+                        .name(event.type().name())
+                        .data(event));
+                subscriber.cursor = event.sequence();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.info("Change feed subscriber disconnected: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Apakah semua event setelah since masih ada di ring buffer (dijaga oleh lock this)
+     */
+    private boolean isRetained(long since) {
+        return since <= latestSequence && since >= Math.max(baseSequence, latestSequence - ring.length);
+    }
+
+    private List<BookChangeEvent> read(long since, int limit) {
+        long last = Math.min(latestSequence, since + limit);
+        List<BookChangeEvent> events = new ArrayList<>((int) (last - since));
+        for (long sequence = since + 1; sequence <= last; sequence++) {
+            events.add(ring[slot(sequence)]);
+        }
+        return events;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+
+    static BookChangeEvent.Type type(BookSnapshot before, BookSnapshot after) {
+        if (before == null) {
+            return BookChangeEvent.Type.CREATED;
+        }
+        if (after == null) {
+            return BookChangeEvent.Type.DELETED;
+        }
+        boolean stockOnly = !before.equals(after) && after.stockQuantity() != null
+                && before.withStock(after.stockQuantity()).equals(after);
+        return stockOnly ? BookChangeEvent.Type.STOCK_CHANGED : BookChangeEvent.Type.UPDATED;
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicInteger signals = new AtomicInteger();
+        private volatile long cursor;
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.testuas.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.entity.Book;
+import com.example.testuas.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service untuk mengekspor seluruh katalog secara streaming
+ * 
+ * Baris dibaca dari Stream JDBC dan langsung ditulis ke output stream,
+ * persistence context dibersihkan secara berkala sehingga pemakaian heap
+ * tetap datar berapa pun jumlah bukunya.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookExportService {
+    
+    /**
+     * Jumlah baris sebelum persistence context dibersihkan (sama dengan fetch size)
+     */
+    private static final int CLEAR_INTERVAL = 1000;
+    
+    private static final String CSV_HEADER = "id,title,author,isbn,publicationYear,category,description,"
+            + "stockQuantity,price,status,createdAt,updatedAt";
+    
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Format ekspor yang didukung
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static ExportFormat parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Format ekspor tidak didukung: " + value);
+            }
+        }
+    }
+    
+    /**
+     * Menulis seluruh buku ke output stream
+     * @return jumlah buku yang ditulis
+     */
+    @Transactional(readOnly = true)
+    public long exportBooks(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting catalog as {}", format);
+        long start = System.nanoTime();
+        long count = 0;
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        ObjectWriter jsonWriter = objectMapper.writerFor(BookResponse.class);
+        
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        try (Stream<Book> books = bookRepository.streamAllOrderById()) {
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, book);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(BookResponse.fromEntity(book)));
+                    writer.write('\n');
+                }
+                
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        
+        log.info("Exported {} books in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+    
+    private static void writeCsv(Writer writer, Book book) throws IOException {
+        writer.write(String.valueOf(book.getId()));
+        writer.write(',');
+        writer.write(csv(book.getTitle()));
+        writer.write(',');
+        writer.write(csv(book.getAuthor()));
+        writer.write(',');
+        writer.write(csv(book.getIsbn()));
+        writer.write(',');
+        writer.write(csv(book.getPublicationYear()));
+        writer.write(',');
+        writer.write(csv(book.getCategory()));
+        writer.write(',');
+        writer.write(csv(book.getDescription()));
+        writer.write(',');
+        writer.write(csv(book.getStockQuantity()));
+        writer.write(',');
+        writer.write(csv(book.getPrice()));
+        writer.write(',');
+        writer.write(csv(book.getStatus()));
+        writer.write(',');
+        writer.write(csv(book.getCreatedAt()));
+        writer.write(',');
+        writer.write(csv(book.getUpdatedAt()));
+        writer.write('\n');
+    }
+    
+    /**
+     * Escape nilai CSV sesuai RFC 4180
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.testuas.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.testuas.dto.BookRequest;
+import com.example.testuas.dto.ImportReport;
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.index.BookSnapshot;
+import com.example.testuas.repository.BookBulkRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service untuk bulk import buku dari JSON atau CSV
+ * 
+ * Berbeda dengan createBook yang memproses satu buku per transaksi:
+ * - Input dibaca secara streaming, tidak dimuat seluruhnya ke memory
+ * - Keunikan ISBN dicek terhadap Set yang dimuat sekali di awal (bukan findByIsbn per baris)
+ * - ID dialokasikan per blok dari sequence, baris disimpan dengan JDBC batch
+ * - Setiap batch di-commit di transaksi sendiri; batch yang gagal dicatat sebagai baris ditolak
+ * - Index diperbarui sekali per batch (publishCreated), bukan satu event per baris
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookImportService {
+    
+    /**
+     * Jumlah maksimal baris ditolak yang dicantumkan di laporan
+     */
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+    
+    private final BookBulkRepository bookBulkRepository;
+    private final BookIndexMaintainer bookIndexMaintainer;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    
+    /**
+     * Jumlah baris per JDBC batch dan per transaksi
+     */
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+    
+    /**
+     * Format input yang didukung
+     */
+    public enum ImportFormat {
+        JSON, CSV;
+        
+        public static ImportFormat parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Format import tidak didukung: " + value);
+            }
+        }
+    }
+    
+    /**
+     * Mengimpor buku dari input stream
+     * JSON: array objek dengan field yang sama seperti BookRequest
+     * CSV: baris header berisi nama field BookRequest, diikuti baris data
+     */
+    public ImportReport importBooks(ImportFormat format, InputStream in) throws IOException {
+        log.info("Starting bulk import ({})", format);
+        ImportRun run = new ImportRun(bookBulkRepository.findAllIsbns());
+        
+        if (format == ImportFormat.CSV) {
+            readCsv(in, run);
+        } else {
+            readJson(in, run);
+        }
+        run.flush();
+        
+        ImportReport report = run.report();
+        log.info("Bulk import finished: {} imported, {} rejected in {} ms ({} rows/s)",
+                report.getImported(), report.getRejected(), report.getDurationMs(), (long) report.getRowsPerSecond());
+        return report;
+    }
+    
+    private void readJson(InputStream in, ImportRun run) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Input JSON harus berupa array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Input JSON terpotong: array tidak ditutup");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    // Elemen yang bukan objek (angka, string, array, null) ditolak sebagai satu baris
+                    parser.skipChildren();
+                    run.reject("Elemen bukan objek buku: " + token.name());
+                    continue;
+                }
+                // Dibaca sebagai tree dulu agar satu objek yang tidak valid tidak menghentikan import
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    run.accept(objectMapper.treeToValue(node, BookRequest.class));
+                } catch (JsonProcessingException e) {
+                    run.reject("Data tidak valid: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+    
+    private void readCsv(InputStream in, ImportRun run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        List<String> header = CsvRecords.next(reader);
+        if (header == null) {
+            return;
+        }
+        
+        List<String> record;
+        while ((record = CsvRecords.next(reader)) != null) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                String value = record.get(i);
+                values.put(header.get(i).trim(), value.isEmpty() ? null : value);
+            }
+            try {
+                run.accept(toRequest(values));
+            } catch (NumberFormatException e) {
+                run.reject("Angka tidak valid: " + e.getMessage());
+            }
+        }
+    }
+    
+    private static BookRequest toRequest(Map<String, String> values) {
+        BookRequest request = new BookRequest();
+        request.setTitle(values.get("title"));
+        request.setAuthor(values.get("author"));
+        request.setIsbn(values.get("isbn"));
+        request.setPublicationYear(values.get("publicationYear") != null
+                ? Integer.valueOf(values.get("publicationYear")) : null);
+        request.setCategory(values.get("category"));
+        request.setDescription(values.get("description"));
+        request.setStockQuantity(values.get("stockQuantity") != null
+                ? Integer.valueOf(values.get("stockQuantity")) : 0);
+        request.setPrice(values.get("price") != null ? Double.valueOf(values.get("price")) : null);
+        return request;
+    }
+    
+    /**
+     * State satu proses import: buffer batch, set ISBN, dan penghitung
+     */
+    private final class ImportRun {
+        
+        private final Set<String> isbns;
+        private final List<Book> buffer = new ArrayList<>(batchSize);
+        private final List<Long> bufferRows = new ArrayList<>(batchSize);
+        private final List<ImportReport.RejectedRow> rejectedRows = new ArrayList<>();
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final long start = System.nanoTime();
+        private long row = 0;
+        private long imported = 0;
+        private long rejected = 0;
+        
+        ImportRun(Set<String> isbns) {
+            this.isbns = isbns;
+        }
+        
+        void accept(BookRequest request) {
+            row++;
+            Set<ConstraintViolation<BookRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                rejectCurrent(violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (request.getIsbn() != null && !isbns.add(request.getIsbn())) {
+                rejectCurrent("ISBN sudah terdaftar: " + request.getIsbn());
+                return;
+            }
+            
+            Book book = new Book();
+            book.setTitle(request.getTitle());
+            book.setAuthor(request.getAuthor());
+            book.setIsbn(request.getIsbn());
+            book.setPublicationYear(request.getPublicationYear());
+            book.setCategory(request.getCategory());
+            book.setDescription(request.getDescription());
+            book.setStockQuantity(request.getStockQuantity() != null ? request.getStockQuantity() : 0);
+            book.setPrice(request.getPrice());
+            buffer.add(book);
+            bufferRows.add(row);
+            
+            if (buffer.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        void reject(String reason) {
+            row++;
+            rejectCurrent(reason);
+        }
+        
+        private void rejectCurrent(String reason) {
+            rejectRow(row, reason);
+        }
+        
+        private void rejectRow(long rowNumber, String reason) {
+            rejected++;
+            if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+                rejectedRows.add(new ImportReport.RejectedRow(rowNumber, reason));
+            }
+        }
+        
+        /**
+         * Menyimpan isi buffer dalam satu transaksi
+         * Jika batch gagal (misalnya ISBN sudah dimasukkan proses lain), semua barisnya dicatat
+         * sebagai ditolak dan import berlanjut ke batch berikutnya
+         */
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    long[] ids = bookBulkRepository.allocateIds(buffer.size());
+                    for (int i = 0; i < buffer.size(); i++) {
+                        buffer.get(i).setId(ids[i]);
+                    }
+                    bookBulkRepository.insertAll(buffer);
+                    bookIndexMaintainer.publishCreated(buffer.stream().map(BookSnapshot::of).toList());
+                });
+                imported += buffer.size();
+            } catch (DataAccessException | TransactionException e) {
+                String cause = e.getMostSpecificCause().getMessage();
+                log.warn("Import batch of {} rows (first row {}) failed: {}", buffer.size(), bufferRows.get(0), cause);
+                for (int i = 0; i < buffer.size(); i++) {
+                    String isbn = buffer.get(i).getIsbn();
+                    if (isbn != null) {
+                        isbns.remove(isbn);
+                    }
+                    rejectRow(bufferRows.get(i), "Batch gagal disimpan: " + cause);
+                }
+            } finally {
+                buffer.clear();
+                bufferRows.clear();
+            }
+        }
+        
+        ImportReport report() {
+            long durationMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            return new ImportReport(imported, rejected, durationMs, imported * 1000.0 / durationMs, rejectedRows);
+        }
+    }
+    
+    /**
+     * Pembaca record CSV sederhana (RFC 4180): mendukung field ber-quote,
+     * koma dan baris baru di dalam quote, serta "" sebagai escape tanda kutip
+     */
+    static final class CsvRecords {
+        
+        private CsvRecords() {
+        }
+        
+        /**
+         * Membaca satu record, null jika input sudah habis
+         */
+        static List<String> next(BufferedReader reader) throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
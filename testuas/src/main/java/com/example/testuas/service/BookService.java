@@ -1,16 +1,66 @@
 package com.example.testuas.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.testuas.config.CacheConfig;
+import com.example.testuas.dto.BookFacets;
+import com.example.testuas.dto.BookFieldSet;
+import com.example.testuas.dto.BookFilter;
 import com.example.testuas.dto.BookRequest;
 import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.dto.CursorPage;
+import com.example.testuas.dto.StatisticsDriftReport;
+import com.example.testuas.dto.StockAdjustmentRequest;
+import com.example.testuas.dto.StockAdjustmentResult;
 import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookBitmapIndex;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.index.BookRangeIndex;
+import com.example.testuas.index.BookSnapshot;
+import com.example.testuas.index.CatalogStatistics;
+import com.example.testuas.index.CatalogStatisticsReconciler;
+import com.example.testuas.index.CatalogVersion;
+import com.example.testuas.index.KeywordIndex;
+import com.example.testuas.index.LowStockIndex;
+import com.example.testuas.index.TrigramIndex;
+import com.example.testuas.repository.BookFacetRepository;
+import com.example.testuas.repository.BookFieldQueryRepository;
+import com.example.testuas.repository.BookFilterRepository;
+import com.example.testuas.repository.BookRangeRepository;
 import com.example.testuas.repository.BookRepository;
+import com.example.testuas.repository.BookStockRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.annotation.Timed;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,14 +81,45 @@ import lombok.extern.slf4j.Slf4j;
  * - Transformasi data (DTO <-> Entity)
  * - Business rules (aturan bisnis)
  * - Error handling
+ * 
+ * @Timed - Setiap method public dicatat di timer "book.service" (tag class dan method)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = "book.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class BookService {
     
+    /**
+     * Jumlah ID maksimal per query IN saat baris diambil berdasarkan daftar ID dari index
+     */
+    private static final int ID_CHUNK_SIZE = 1000;
+    
     private final BookRepository bookRepository;
+    private final BookFieldQueryRepository bookFieldQueryRepository;
+    private final BookFacetRepository bookFacetRepository;
+    private final BookFilterRepository bookFilterRepository;
+    private final BookRangeRepository bookRangeRepository;
+    private final BookStockRepository bookStockRepository;
+    private final BookIndexMaintainer bookIndexMaintainer;
+    private final KeywordIndex keywordIndex;
+    private final TrigramIndex trigramIndex;
+    private final BookBitmapIndex bookBitmapIndex;
+    private final BookRangeIndex bookRangeIndex;
+    private final LowStockIndex lowStockIndex;
+    private final CacheManager cacheManager;
+    private final CatalogStatistics catalogStatistics;
+    private final CatalogStatisticsReconciler catalogStatisticsReconciler;
+    private final PlatformTransactionManager transactionManager;
+    private final SingleFlight singleFlight;
+    private final CatalogVersion catalogVersion;
+    
+    /**
+     * Jumlah item per transaksi pada penyesuaian stok batch
+     */
+    @Value("${app.stock.batch-chunk-size:500}")
+    private int stockBatchChunkSize;
     
     /**
      * Menyimpan buku baru
@@ -66,26 +147,26 @@ public class BookService {
         
         // Menyimpan ke database
         Book savedBook = bookRepository.save(book);
+        bookIndexMaintainer.publish(null, BookSnapshot.of(savedBook));
         log.info("Book created successfully with ID: {}", savedBook.getId());
         
         return BookResponse.fromEntity(savedBook);
     }
     
     /**
-     * Mengambil semua buku
+     * Mengambil semua buku (proyeksi ringkas tanpa description)
      */
     @Transactional(readOnly = true)
-    public List<BookResponse> getAllBooks() {
+    public List<BookSummary> getAllBooks() {
         log.info("Fetching all books");
-        return bookRepository.findAll()
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        return bookRepository.findAllSummaries();
     }
     
     /**
      * Mengambil buku berdasarkan ID
+     * @Cacheable - Hasil disimpan di cache "books", cache hit tidak menyentuh database
      */
+    @Cacheable(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id")
     @Transactional(readOnly = true)
     public BookResponse getBookById(Long id) {
         log.info("Fetching book with ID: {}", id);
@@ -97,6 +178,7 @@ public class BookService {
     /**
      * Mengupdate buku berdasarkan ID
      */
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id")
     @Transactional
     public BookResponse updateBook(Long id, BookRequest request) {
         log.info("Updating book with ID: {}", id);
@@ -113,6 +195,7 @@ public class BookService {
         }
         
         // Update data buku
+        BookSnapshot before = BookSnapshot.of(existingBook);
         existingBook.setTitle(request.getTitle());
         existingBook.setAuthor(request.getAuthor());
         existingBook.setIsbn(request.getIsbn());
@@ -123,6 +206,7 @@ public class BookService {
         existingBook.setPrice(request.getPrice());
         
         Book updatedBook = bookRepository.save(existingBook);
+        bookIndexMaintainer.publish(before, BookSnapshot.of(updatedBook));
         log.info("Book updated successfully with ID: {}", updatedBook.getId());
         
         return BookResponse.fromEntity(updatedBook);
@@ -131,149 +215,785 @@ public class BookService {
     /**
      * Menghapus buku berdasarkan ID
      */
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id")
     @Transactional
     public void deleteBook(Long id) {
         log.info("Deleting book with ID: {}", id);
         
-        if (!bookRepository.existsById(id)) {
-            throw new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + id);
-        }
+        Book book = bookRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + id));
         
-        bookRepository.deleteById(id);
+        bookRepository.delete(book);
+        bookIndexMaintainer.publish(BookSnapshot.of(book), null);
         log.info("Book deleted successfully with ID: {}", id);
     }
     
     /**
      * Mencari buku berdasarkan keyword
+     * 
+     * ID buku dicari dari KeywordIndex (in-memory), database hanya dipakai
+     * untuk mengambil baris berdasarkan primary key (per ID_CHUNK_SIZE, lihat summariesInOrder).
+     * Fallback ke query JPQL jika index belum siap atau keyword tidak berisi token.
+     * Hasil berupa proyeksi ringkas tanpa description.
+     * Pencarian identik yang bersamaan berbagi satu eksekusi (lihat coalesced).
      */
-    @Transactional(readOnly = true)
-    public List<BookResponse> searchBooks(String keyword) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BookSummary> searchBooks(String keyword) {
         log.info("Searching books with keyword: {}", keyword);
-        return bookRepository.searchByKeyword(keyword)
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        
+        return coalesced("searchBooks", keyword, () -> {
+            List<Long> ids = bookIndexMaintainer.isReady() ? keywordIndex.search(keyword) : null;
+            if (ids == null) {
+                return bookRepository.searchSummariesByKeyword(keyword);
+            }
+            return summariesInOrder(ids);
+        });
     }
     
     /**
      * Mencari buku berdasarkan judul
+     * Kandidat dari TrigramIndex diambil dari database lalu diverifikasi sebagai substring (case-insensitive)
      */
     @Transactional(readOnly = true)
     public List<BookResponse> getBooksByTitle(String title) {
         log.info("Fetching books by title: {}", title);
-        return bookRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        
+        if (!canUseTrigramIndex(title)) {
+            return bookRepository.findByTitleContainingIgnoreCase(title)
+                    .stream()
+                    .map(BookResponse::fromEntity)
+                    .collect(Collectors.toList());
+        }
+        
+        String query = TrigramIndex.normalize(title);
+        return fetchVerified(trigramIndex.titleCandidates(title),
+                book -> TrigramIndex.normalize(book.getTitle()).contains(query));
     }
     
     /**
      * Mencari buku berdasarkan penulis
+     * Kandidat dari TrigramIndex diambil dari database lalu diverifikasi sebagai substring (case-insensitive)
      */
     @Transactional(readOnly = true)
     public List<BookResponse> getBooksByAuthor(String author) {
         log.info("Fetching books by author: {}", author);
-        return bookRepository.findByAuthorContainingIgnoreCase(author)
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        
+        if (!canUseTrigramIndex(author)) {
+            return bookRepository.findByAuthorContainingIgnoreCase(author)
+                    .stream()
+                    .map(BookResponse::fromEntity)
+                    .collect(Collectors.toList());
+        }
+        
+        String query = TrigramIndex.normalize(author);
+        return fetchVerified(trigramIndex.authorCandidates(author),
+                book -> TrigramIndex.normalize(book.getAuthor()).contains(query));
     }
     
     /**
-     * Mencari buku berdasarkan kategori
+     * Mencari buku berdasarkan judul dan penulis sekaligus
      */
     @Transactional(readOnly = true)
-    public List<BookResponse> getBooksByCategory(String category) {
+    public List<BookResponse> getBooksByTitleAndAuthor(String title, String author) {
+        log.info("Fetching books by title: {} and author: {}", title, author);
+        
+        if (!canUseTrigramIndex(title) || !canUseTrigramIndex(author)) {
+            return bookRepository.findByTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase(title, author)
+                    .stream()
+                    .map(BookResponse::fromEntity)
+                    .collect(Collectors.toList());
+        }
+        
+        String titleQuery = TrigramIndex.normalize(title);
+        String authorQuery = TrigramIndex.normalize(author);
+        int[] matches = TrigramIndex.intersect(
+                trigramIndex.titleCandidates(title), trigramIndex.authorCandidates(author));
+        return fetchVerified(matches,
+                book -> TrigramIndex.normalize(book.getTitle()).contains(titleQuery)
+                        && TrigramIndex.normalize(book.getAuthor()).contains(authorQuery));
+    }
+    
+    private boolean canUseTrigramIndex(String query) {
+        return bookIndexMaintainer.isReady() && query != null
+                && query.length() >= TrigramIndex.MIN_QUERY_LENGTH;
+    }
+    
+    /**
+     * Mengambil baris untuk kandidat dari index (terurut), per ID_CHUNK_SIZE
+     * Matcher substring dicek pada baris dari database: index hanya menjamin semua trigram query ada,
+     * dan baris bisa berubah setelah index dibaca
+     */
+    private List<BookResponse> fetchVerified(int[] ids, Predicate<Book> matcher) {
+        List<BookResponse> books = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += ID_CHUNK_SIZE) {
+            List<Long> chunk = Arrays.stream(ids, from, Math.min(ids.length, from + ID_CHUNK_SIZE))
+                    .asLongStream().boxed().toList();
+            bookRepository.findAllById(chunk)
+                    .stream()
+                    .filter(matcher)
+                    .sorted(Comparator.comparing(Book::getId))
+                    .map(BookResponse::fromEntity)
+                    .forEach(books::add);
+        }
+        return books;
+    }
+    
+    /**
+     * Mencari buku berdasarkan kategori (proyeksi ringkas)
+     * Request identik yang bersamaan berbagi satu query (lihat coalesced)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BookSummary> getBooksByCategory(String category) {
         log.info("Fetching books by category: {}", category);
-        return bookRepository.findByCategoryIgnoreCase(category)
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        return coalesced("getBooksByCategory", category,
+                () -> bookRepository.findSummariesByCategory(category));
     }
     
     /**
-     * Mencari buku berdasarkan status
+     * Mencari buku berdasarkan status (proyeksi ringkas)
+     * Request identik yang bersamaan berbagi satu query (lihat coalesced)
      */
-    @Transactional(readOnly = true)
-    public List<BookResponse> getBooksByStatus(Book.BookStatus status) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<BookSummary> getBooksByStatus(Book.BookStatus status) {
         log.info("Fetching books by status: {}", status);
-        return bookRepository.findByStatus(status)
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        return coalesced("getBooksByStatus", status,
+                () -> bookRepository.findSummariesByStatus(status));
     }
     
     /**
-     * Mencari buku dengan stok rendah
+     * Mencari buku dengan stok rendah (proyeksi ringkas, urut stok)
+     * 
+     * Daftar ID dibaca dari LowStockIndex (threshold per kategori), database hanya dipakai
+     * untuk mengambil baris berdasarkan primary key. Fallback ke query JPQL (threshold default 5)
+     * selama index belum siap.
      */
     @Transactional(readOnly = true)
-    public List<BookResponse> getBooksWithLowStock() {
+    public List<BookSummary> getBooksWithLowStock() {
         log.info("Fetching books with low stock");
-        return bookRepository.findBooksWithLowStock()
-                .stream()
-                .map(BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        
+        if (!bookIndexMaintainer.isReady()) {
+            return bookRepository.findLowStockSummaries();
+        }
+        return summariesInOrder(lowStockIndex.entries().stream().map(LowStockIndex.Entry::id).toList());
+    }
+    
+    /**
+     * Jumlah buku per kategori, status, dekade terbit, dan rentang harga (facet)
+     * 
+     * Semua filter opsional. Keyword dicari lewat KeywordIndex (fallback LIKE seperti searchBooks),
+     * lalu semua facet dihitung dalam satu query GROUP BY tanpa memuat entitas.
+     * Hasil di-cache per filter dengan versi katalog di key, sehingga setiap perubahan lewat
+     * BookService (yang menaikkan CatalogVersion setelah commit) otomatis membuat entri lama tidak terpakai.
+     */
+    @Cacheable(cacheNames = CacheConfig.FACETS_CACHE,
+            key = "{@catalogVersion.current(), #category?.toUpperCase(), #status, #keyword?.toLowerCase()}")
+    @Transactional(readOnly = true)
+    public BookFacets getFacets(String category, Book.BookStatus status, String keyword) {
+        log.info("Counting facets for category: {}, status: {}, keyword: {}", category, status, keyword);
+        
+        List<Long> ids = keyword != null && bookIndexMaintainer.isReady() ? keywordIndex.search(keyword) : null;
+        return bookFacetRepository.countFacets(category, status, keyword, ids);
+    }
+    
+    /**
+     * Filter gabungan status, kategori, tahun terbit, harga, dan stok (pagination cursor berdasarkan ID)
+     * 
+     * AND/OR/NOT dievaluasi di BookBitmapIndex, lalu hanya ID halaman yang diminta
+     * diambil dari database. Fallback ke query JPQL dinamis jika index belum siap.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> filterBooks(BookFilter filter, String after, Integer limit) {
+        log.info("Filtering books with {} after cursor: {}", filter, after);
+        filter.validate();
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        
+        if (bookIndexMaintainer.isReady()) {
+            int[] ids = bookBitmapIndex.filter(filter, (int) Math.min(lastId, Integer.MAX_VALUE), size + 1);
+            boolean hasMore = ids.length > size;
+            List<Long> pageIds = Arrays.stream(ids).limit(size).asLongStream().boxed().toList();
+            List<BookSummary> books = pageIds.isEmpty() ? List.of() : bookRepository.findSummariesByIdIn(pageIds);
+            return CursorPage.of(books, hasMore ? PageCursor.encode(ids[size - 1]) : null);
+        }
+        
+        List<BookSummary> rows = bookFilterRepository.findSummaries(filter, lastId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<BookSummary> pageRows = hasMore ? rows.subList(0, size) : rows;
+        return CursorPage.of(pageRows, hasMore ? PageCursor.encode(pageRows.get(size - 1).id()) : null);
+    }
+    
+    /**
+     * Buku dalam range harga, urut harga lalu ID (sort asc/desc, pagination cursor)
+     * minPrice/maxPrice opsional dan inklusif
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksByPriceRange(Double minPrice, Double maxPrice, String sort,
+                                                        String after, Integer limit) {
+        log.info("Fetching books with price between {} and {} sorted {} after cursor: {}", minPrice, maxPrice, sort, after);
+        return rangePage(BookRangeIndex.Field.PRICE,
+                minPrice != null ? minPrice : -Double.MAX_VALUE,
+                maxPrice != null ? maxPrice : Double.MAX_VALUE,
+                sort, after, limit);
+    }
+    
+    /**
+     * Buku dalam range tahun terbit, urut tahun lalu ID (sort asc/desc, pagination cursor)
+     * yearFrom/yearTo opsional dan inklusif
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksByYearRange(Integer yearFrom, Integer yearTo, String sort,
+                                                       String after, Integer limit) {
+        log.info("Fetching books published between {} and {} sorted {} after cursor: {}", yearFrom, yearTo, sort, after);
+        return rangePage(BookRangeIndex.Field.PUBLICATION_YEAR,
+                yearFrom != null ? yearFrom : Integer.MIN_VALUE,
+                yearTo != null ? yearTo : Integer.MAX_VALUE,
+                sort, after, limit);
+    }
+    
+    /**
+     * Satu halaman range query: ID dan urutan dari BookRangeIndex (pembacaan berhenti setelah size + 1 entri),
+     * lalu hanya baris halaman tersebut diambil dari database.
+     * Fallback ke query JPQL keyset jika index belum siap.
+     * Cursor berisi (nilai, ID) entri terakhir.
+     */
+    private CursorPage<BookSummary> rangePage(BookRangeIndex.Field field, double from, double to, String sort,
+                                              String after, Integer limit) {
+        if (from > to) {
+            throw new IllegalArgumentException("Batas bawah range tidak boleh lebih besar dari batas atas");
+        }
+        boolean descending = isDescending(sort);
+        int size = PageCursor.normalizeLimit(limit);
+        Double afterKey = null;
+        long afterId = 0L;
+        if (after != null && !after.isBlank()) {
+            long[] cursor = PageCursor.decode(after, 0L, 0L);
+            afterKey = Double.longBitsToDouble(cursor[0]);
+            afterId = cursor[1];
+        }
+        
+        if (bookIndexMaintainer.isReady()) {
+            BookRangeIndex.Slice slice = bookRangeIndex.range(field, from, to, descending, afterKey, afterId, size + 1);
+            List<BookSummary> books = summariesInOrder(Arrays.stream(slice.ids()).limit(size).boxed().toList());
+            String nextCursor = slice.size() > size
+                    ? PageCursor.encode(Double.doubleToLongBits(slice.keys()[size - 1]), slice.ids()[size - 1])
+                    : null;
+            return CursorPage.of(books, nextCursor);
+        }
+        
+        List<BookSummary> rows = bookRangeRepository.findSummaries(field, from, to, descending, afterKey, afterId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<BookSummary> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            BookSummary last = pageRows.get(size - 1);
+            double key = field == BookRangeIndex.Field.PRICE ? last.price() : last.publicationYear();
+            nextCursor = PageCursor.encode(Double.doubleToLongBits(key), last.id());
+        }
+        return CursorPage.of(pageRows, nextCursor);
+    }
+    
+    /**
+     * Proyeksi ringkas untuk daftar ID dengan urutan yang sama (ID yang sudah dihapus dilewati)
+     * Diambil per ID_CHUNK_SIZE agar klausa IN tetap kecil untuk daftar yang panjang
+     */
+    private List<BookSummary> summariesInOrder(List<Long> ids) {
+        Map<Long, BookSummary> rows = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            bookRepository.findSummariesByIdIn(ids.subList(from, Math.min(ids.size(), from + ID_CHUNK_SIZE)))
+                    .forEach(row -> rows.put(row.id(), row));
+        }
+        return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+    
+    private static boolean isDescending(String sort) {
+        if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (sort.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Sort harus asc atau desc: " + sort);
+    }
+    
+    /**
+     * Mengambil semua buku, hanya field yang diminta (?fields=)
+     * Kolom yang tidak diminta tidak ikut di-SELECT
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllBooks(BookFieldSet fields) {
+        log.info("Fetching all books with fields: {}", fields.names());
+        return bookFieldQueryRepository.findAll(fields);
+    }
+    
+    /**
+     * Mengambil buku berdasarkan ID, hanya field yang diminta
+     * Tidak memakai cache "books" karena isi cache selalu BookResponse lengkap
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getBookById(Long id, BookFieldSet fields) {
+        log.info("Fetching book with ID: {} and fields: {}", id, fields.names());
+        List<Map<String, Object>> rows = bookFieldQueryRepository.findById(id, fields);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + id);
+        }
+        return rows.get(0);
+    }
+    
+    /**
+     * Mencari buku berdasarkan keyword, hanya field yang diminta
+     * ID tetap dicari dari KeywordIndex, fallback ke query LIKE jika index belum siap
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchBooks(String keyword, BookFieldSet fields) {
+        log.info("Searching books with keyword: {} and fields: {}", keyword, fields.names());
+        
+        List<Long> ids = bookIndexMaintainer.isReady() ? keywordIndex.search(keyword) : null;
+        if (ids == null) {
+            return bookFieldQueryRepository.searchByKeyword(keyword, fields);
+        }
+        return fieldRowsInOrder(ids, fields);
+    }
+    
+    /**
+     * Mencari buku berdasarkan kategori, hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBooksByCategory(String category, BookFieldSet fields) {
+        log.info("Fetching books by category: {} with fields: {}", category, fields.names());
+        return bookFieldQueryRepository.findByCategory(category, fields);
+    }
+    
+    /**
+     * Mencari buku berdasarkan status, hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBooksByStatus(Book.BookStatus status, BookFieldSet fields) {
+        log.info("Fetching books by status: {} with fields: {}", status, fields.names());
+        return bookFieldQueryRepository.findByStatus(status, fields);
+    }
+    
+    /**
+     * Mencari buku dengan stok rendah, hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBooksWithLowStock(BookFieldSet fields) {
+        log.info("Fetching books with low stock with fields: {}", fields.names());
+        
+        if (!bookIndexMaintainer.isReady()) {
+            return bookFieldQueryRepository.findLowStock(fields);
+        }
+        return fieldRowsInOrder(lowStockIndex.entries().stream().map(LowStockIndex.Entry::id).toList(), fields);
+    }
+    
+    /**
+     * Mengambil baris sparse fieldset untuk ID dari index, per potongan ID_CHUNK_SIZE dan
+     * dengan urutan yang sama seperti ids
+     */
+    private List<Map<String, Object>> fieldRowsInOrder(List<Long> ids, BookFieldSet fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Kolom id selalu ikut di-SELECT agar baris bisa diurutkan kembali sesuai urutan index
+        boolean withId = fields.names().contains("id");
+        BookFieldSet query = fields.with("id");
+        Map<Object, Map<String, Object>> rows = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            bookFieldQueryRepository.findByIds(ids.subList(from, Math.min(ids.size(), from + ID_CHUNK_SIZE)), query)
+                    .forEach(row -> rows.put(row.get("id"), row));
+        }
+        List<Map<String, Object>> ordered = new ArrayList<>(rows.size());
+        for (Long id : ids) {
+            Map<String, Object> row = rows.get(id);
+            if (row != null) {
+                if (!withId) {
+                    row.remove("id");
+                }
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+    
+    /**
+     * Mengambil satu halaman buku (pagination cursor, urut berdasarkan ID, proyeksi ringkas)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksPage(String after, Integer limit) {
+        log.info("Fetching books page after cursor: {}", after);
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return toPage(bookRepository.findSummariesAfter(lastId, Limit.of(size + 1)),
+                size, book -> PageCursor.encode(book.id()));
+    }
+    
+    /**
+     * Mengambil satu halaman buku berdasarkan kategori
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksByCategoryPage(String category, String after, Integer limit) {
+        log.info("Fetching books page by category: {} after cursor: {}", category, after);
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return toPage(bookRepository.findSummariesByCategoryAfter(category, lastId, Limit.of(size + 1)),
+                size, book -> PageCursor.encode(book.id()));
+    }
+    
+    /**
+     * Mengambil satu halaman buku berdasarkan status
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksByStatusPage(Book.BookStatus status, String after, Integer limit) {
+        log.info("Fetching books page by status: {} after cursor: {}", status, after);
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return toPage(bookRepository.findSummariesByStatusAfter(status, lastId, Limit.of(size + 1)),
+                size, book -> PageCursor.encode(book.id()));
+    }
+    
+    /**
+     * Satu halaman buku (urut ID), hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getBooksPage(String after, Integer limit, BookFieldSet fields) {
+        log.info("Fetching books page after cursor: {} with fields: {}", after, fields.names());
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return fieldPage(bookFieldQueryRepository.findPage(lastId, size + 1, fields.with("id")),
+                size, fields, row -> PageCursor.encode((Long) row.get("id")));
+    }
+    
+    /**
+     * Satu halaman buku berdasarkan kategori, hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getBooksByCategoryPage(String category, String after, Integer limit,
+                                                                  BookFieldSet fields) {
+        log.info("Fetching books page by category: {} after cursor: {} with fields: {}", category, after, fields.names());
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return fieldPage(bookFieldQueryRepository.findByCategoryPage(category, lastId, size + 1, fields.with("id")),
+                size, fields, row -> PageCursor.encode((Long) row.get("id")));
+    }
+    
+    /**
+     * Satu halaman buku berdasarkan status, hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getBooksByStatusPage(Book.BookStatus status, String after, Integer limit,
+                                                                BookFieldSet fields) {
+        log.info("Fetching books page by status: {} after cursor: {} with fields: {}", status, after, fields.names());
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return fieldPage(bookFieldQueryRepository.findByStatusPage(status, lastId, size + 1, fields.with("id")),
+                size, fields, row -> PageCursor.encode((Long) row.get("id")));
+    }
+    
+    /**
+     * Mengambil satu halaman buku berdasarkan penulis
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksByAuthorPage(String author, String after, Integer limit) {
+        log.info("Fetching books page by author: {} after cursor: {}", author, after);
+        int size = PageCursor.normalizeLimit(limit);
+        long lastId = PageCursor.decode(after, 0L)[0];
+        return toPage(bookRepository.findSummariesByAuthorAfter(author, lastId, Limit.of(size + 1)),
+                size, book -> PageCursor.encode(book.id()));
+    }
+    
+    /**
+     * Mengambil satu halaman buku dengan stok rendah (urut stok, lalu ID)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookSummary> getBooksWithLowStockPage(String after, Integer limit) {
+        log.info("Fetching low stock books page after cursor: {}", after);
+        int size = PageCursor.normalizeLimit(limit);
+        long[] last = PageCursor.decode(after, Integer.MIN_VALUE, 0L);
+        
+        if (bookIndexMaintainer.isReady()) {
+            List<LowStockIndex.Entry> entries = lowStockIndex.entriesAfter((int) last[0], last[1], size + 1);
+            List<LowStockIndex.Entry> page = entries.size() > size ? entries.subList(0, size) : entries;
+            List<BookSummary> items = summariesInOrder(page.stream().map(LowStockIndex.Entry::id).toList());
+            LowStockIndex.Entry lastEntry = page.isEmpty() ? null : page.get(page.size() - 1);
+            return CursorPage.of(items, entries.size() > size
+                    ? PageCursor.encode(lastEntry.stockQuantity(), lastEntry.id())
+                    : null);
+        }
+        return toPage(bookRepository.findLowStockSummariesAfter((int) last[0], last[1], Limit.of(size + 1)),
+                size, book -> PageCursor.encode(book.stockQuantity(), book.id()));
+    }
+    
+    /**
+     * Satu halaman buku dengan stok rendah (urut stok, lalu ID), hanya field yang diminta
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getBooksWithLowStockPage(String after, Integer limit, BookFieldSet fields) {
+        log.info("Fetching low stock books page after cursor: {} with fields: {}", after, fields.names());
+        int size = PageCursor.normalizeLimit(limit);
+        long[] last = PageCursor.decode(after, Integer.MIN_VALUE, 0L);
+        
+        if (bookIndexMaintainer.isReady()) {
+            List<LowStockIndex.Entry> entries = lowStockIndex.entriesAfter((int) last[0], last[1], size + 1);
+            List<LowStockIndex.Entry> page = entries.size() > size ? entries.subList(0, size) : entries;
+            List<Map<String, Object>> items = fieldRowsInOrder(page.stream().map(LowStockIndex.Entry::id).toList(), fields);
+            LowStockIndex.Entry lastEntry = page.isEmpty() ? null : page.get(page.size() - 1);
+            return CursorPage.of(items, entries.size() > size
+                    ? PageCursor.encode(lastEntry.stockQuantity(), lastEntry.id())
+                    : null);
+        }
+        return fieldPage(bookFieldQueryRepository.findLowStockPage((int) last[0], last[1], size + 1,
+                        fields.with("id", "stockQuantity")),
+                size, fields, row -> PageCursor.encode((Integer) row.get("stockQuantity"), (Long) row.get("id")));
+    }
+    
+    /**
+     * Seperti toPage untuk baris sparse fieldset: cursor dibaca dari kolom kunci yang ikut di-SELECT,
+     * lalu kolom yang tidak diminta client dibuang dari baris halaman
+     */
+    private static CursorPage<Map<String, Object>> fieldPage(List<Map<String, Object>> rows, int limit,
+                                                             BookFieldSet fields,
+                                                             Function<Map<String, Object>, String> cursorOf) {
+        CursorPage<Map<String, Object>> page = toPage(rows, limit, cursorOf);
+        page.getItems().forEach(row -> row.keySet().retainAll(fields.names()));
+        return page;
+    }
+    
+    /**
+     * Memotong hasil query (limit + 1 baris) menjadi satu halaman beserta cursor berikutnya
+     */
+    private static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, String> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return CursorPage.of(pageRows, nextCursor);
     }
     
     /**
      * Menambah stok buku
+     * Memakai satu UPDATE atomik, bukan load-modify-save
      */
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#bookId")
     @Transactional
     public BookResponse addStock(Long bookId, Integer quantity) {
         log.info("Adding stock for book ID: {} with quantity: {}", bookId, quantity);
         
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + bookId));
-        
-        if (quantity <= 0) {
+        if (quantity == null || quantity <= 0) {
             throw new IllegalArgumentException("Jumlah stok harus lebih dari 0");
         }
         
-        book.addStock(quantity);
-        Book updatedBook = bookRepository.save(book);
-        
+        BookResponse response = adjustStock(bookId, quantity);
         log.info("Stock added successfully for book ID: {}", bookId);
-        return BookResponse.fromEntity(updatedBook);
+        return response;
     }
     
     /**
      * Mengurangi stok buku
+     * Pengecekan stok dilakukan di dalam UPDATE (WHERE stock >= quantity),
+     * sehingga request bersamaan tidak bisa membuat stok negatif atau kehilangan update
      */
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#bookId")
     @Transactional
     public BookResponse reduceStock(Long bookId, Integer quantity) {
         log.info("Reducing stock for book ID: {} with quantity: {}", bookId, quantity);
         
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + bookId));
-        
-        if (quantity <= 0) {
+        if (quantity == null || quantity <= 0) {
             throw new IllegalArgumentException("Jumlah stok harus lebih dari 0");
         }
         
-        if (book.getStockQuantity() < quantity) {
-            throw new IllegalArgumentException("Stok tidak mencukupi. Stok tersedia: " + book.getStockQuantity());
-        }
+        BookResponse response = adjustStock(bookId, -quantity);
+        log.info("Stock reduced successfully for book ID: {}", bookId);
+        return response;
+    }
+    
+    /**
+     * Menjalankan UPDATE stok atomik lalu meneruskan perubahan ke index
+     */
+    private BookResponse adjustStock(Long bookId, int delta) {
+        Book before = bookStockRepository.adjustStock(bookId, delta)
+                .orElseThrow(() -> stockAdjustmentFailure(bookId));
         
-        book.reduceStock(quantity);
-        Book updatedBook = bookRepository.save(book);
+        Book updatedBook = bookRepository.findById(bookId)
+                .orElseThrow(() -> new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + bookId));
+        bookIndexMaintainer.publish(BookSnapshot.of(before), BookSnapshot.of(updatedBook));
         
-        log.info("Stock reduced successfully for book ID: {}", bookId);
         return BookResponse.fromEntity(updatedBook);
     }
     
+    /**
+     * Menyesuaikan stok banyak buku sekaligus
+     * 
+     * Item diproses per chunk (app.stock.batch-chunk-size), setiap chunk satu transaksi:
+     * 1. Baris buku dikunci dengan satu SELECT ... FOR UPDATE
+     * 2. Setiap item divalidasi berurutan terhadap stok berjalan
+     * 3. Stok akhir per buku disimpan dengan satu JDBC batch UPDATE
+     * Item yang gagal (ID tidak ada, stok kurang) hanya menghasilkan status gagal untuk item itu.
+     * Jika satu chunk gagal di database (misalnya lock timeout), semua item chunk itu ditandai gagal
+     * dan chunk berikutnya tetap diproses.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StockAdjustmentResult> adjustStockBatch(List<StockAdjustmentRequest> adjustments) {
+        log.info("Adjusting stock for {} items in chunks of {}", adjustments.size(), stockBatchChunkSize);
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<StockAdjustmentResult> results = new ArrayList<>(adjustments.size());
+        for (int from = 0; from < adjustments.size(); from += stockBatchChunkSize) {
+            List<StockAdjustmentRequest> chunk =
+                    adjustments.subList(from, Math.min(from + stockBatchChunkSize, adjustments.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> adjustStockChunk(chunk)));
+            } catch (DataAccessException | TransactionException e) {
+                // Chunk ini di-rollback seluruhnya; chunk sebelumnya sudah commit dan chunk berikutnya tetap diproses
+                String cause = e.getMostSpecificCause().getMessage();
+                log.warn("Stock batch chunk of {} items starting at index {} failed: {}", chunk.size(), from, cause);
+                for (StockAdjustmentRequest item : chunk) {
+                    results.add(StockAdjustmentResult.failed(item.getId(), "Chunk gagal disimpan: " + cause));
+                }
+            }
+        }
+        
+        log.info("Stock batch finished: {} of {} items succeeded",
+                results.stream().filter(StockAdjustmentResult::isSuccess).count(), results.size());
+        return results;
+    }
+    
+    private List<StockAdjustmentResult> adjustStockChunk(List<StockAdjustmentRequest> chunk) {
+        TreeSet<Long> ids = chunk.stream()
+                .map(StockAdjustmentRequest::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<Long, Book> lockedBooks = bookStockRepository.lockForUpdate(ids);
+        
+        Map<Long, Integer> currentStock = new HashMap<>();
+        lockedBooks.forEach((id, book) -> currentStock.put(id, book.getStockQuantity()));
+        Map<Long, Integer> newStock = new LinkedHashMap<>();
+        
+        List<StockAdjustmentResult> results = new ArrayList<>(chunk.size());
+        for (StockAdjustmentRequest item : chunk) {
+            Long id = item.getId();
+            Integer delta = item.getDelta();
+            Integer stock = id != null ? currentStock.get(id) : null;
+            
+            if (id == null || delta == null || delta == 0) {
+                results.add(StockAdjustmentResult.failed(id, "ID dan delta (tidak boleh 0) wajib diisi"));
+            } else if (stock == null) {
+                results.add(StockAdjustmentResult.failed(id, "Buku tidak ditemukan dengan ID: " + id));
+            } else if (stock + delta < 0) {
+                results.add(StockAdjustmentResult.failed(id, "Stok tidak mencukupi. Stok tersedia: " + stock));
+            } else {
+                currentStock.put(id, stock + delta);
+                newStock.put(id, stock + delta);
+                results.add(StockAdjustmentResult.succeeded(id, stock + delta));
+            }
+        }
+        
+        if (!newStock.isEmpty()) {
+            bookStockRepository.setStock(newStock);
+            Cache cache = cacheManager.getCache(CacheConfig.BOOKS_CACHE);
+            newStock.forEach((id, stock) -> {
+                BookSnapshot before = BookSnapshot.of(lockedBooks.get(id));
+                bookIndexMaintainer.publish(before, before.withStock(stock));
+                cache.evict(id);
+            });
+        }
+        return results;
+    }
+    
+    /**
+     * Menentukan penyebab UPDATE stok tidak mengubah baris apa pun
+     */
+    private IllegalArgumentException stockAdjustmentFailure(Long bookId) {
+        return bookRepository.findById(bookId)
+                .map(book -> new IllegalArgumentException("Stok tidak mencukupi. Stok tersedia: " + book.getStockQuantity()))
+                .orElseGet(() -> new IllegalArgumentException("Buku tidak ditemukan dengan ID: " + bookId));
+    }
+    
     /**
      * Mendapatkan statistik buku
+     * 
+     * Dibaca dari agregat in-memory CatalogStatistics (O(1), tanpa query).
+     * Propagation.SUPPORTS: tidak membuka transaksi kecuali untuk fallback ke database
+     * selama index belum selesai dibangun; fallback yang bersamaan berbagi satu eksekusi (lihat coalesced).
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BookStatistics getBookStatistics() {
         log.info("Fetching book statistics");
         
-        Long totalBooks = bookRepository.count();
-        Long totalStock = bookRepository.getTotalStockQuantity();
-        Long availableBooks = bookRepository.countByStatus(Book.BookStatus.AVAILABLE);
-        Long borrowedBooks = bookRepository.countByStatus(Book.BookStatus.BORROWED);
+        if (bookIndexMaintainer.isReady()) {
+            return new BookStatistics(
+                catalogStatistics.getTotalBooks(),
+                catalogStatistics.getTotalStock(),
+                catalogStatistics.getCount(Book.BookStatus.AVAILABLE),
+                catalogStatistics.getCount(Book.BookStatus.BORROWED),
+                catalogStatistics.getCount(Book.BookStatus.RESERVED),
+                catalogStatistics.getCount(Book.BookStatus.LOST),
+                catalogStatistics.getCount(Book.BookStatus.DAMAGED),
+                catalogStatistics.getInventoryValue()
+            );
+        }
+        
+        return coalesced("getBookStatistics", null, () -> {
+            Long totalBooks = bookRepository.count();
+            Long totalStock = bookRepository.getTotalStockQuantity();
+            Long availableBooks = bookRepository.countByStatus(Book.BookStatus.AVAILABLE);
+            Long borrowedBooks = bookRepository.countByStatus(Book.BookStatus.BORROWED);
+            Long reservedBooks = bookRepository.countByStatus(Book.BookStatus.RESERVED);
+            Long lostBooks = bookRepository.countByStatus(Book.BookStatus.LOST);
+            Long damagedBooks = bookRepository.countByStatus(Book.BookStatus.DAMAGED);
+            Double inventoryValue = bookRepository.getTotalInventoryValue();
+            
+            return new BookStatistics(totalBooks, totalStock != null ? totalStock : 0L, availableBooks, borrowedBooks,
+                    reservedBooks, lostBooks, damagedBooks, inventoryValue != null ? inventoryValue : 0.0);
+        });
+    }
+    
+    /**
+     * Menjalankan query baca lewat SingleFlight: panggilan identik yang bersamaan berbagi satu eksekusi
+     * 
+     * - Key berisi versi katalog saat panggilan masuk, sehingga pemanggil yang datang setelah
+     *   perubahan di-commit tidak pernah menumpang eksekusi yang dimulai sebelum perubahan tersebut
+     * - Hanya pemanggil pertama yang membuka transaksi read-only (dan meminjam koneksi pool);
+     *   pemanggil lain menunggu hasil tanpa koneksi
+     * - Di dalam transaksi yang sudah berjalan query dijalankan langsung, agar perubahan
+     *   yang belum di-commit di transaksi tersebut tetap terlihat
+     */
+    private <T> T coalesced(String operation, Object argument, Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return query.get();
+        }
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return singleFlight.execute(operation, Arrays.asList(catalogVersion.current(), argument),
+                () -> readOnlyTransaction.execute(status -> query.get()));
+    }
+    
+    /**
+     * Membandingkan statistik in-memory dengan database dan melaporkan selisihnya
+     */
+    @Transactional(readOnly = true)
+    public StatisticsDriftReport reconcileStatistics() {
+        log.info("Reconciling book statistics");
+        return catalogStatisticsReconciler.reconcile();
+    }
+    
+    /**
+     * Hasil rekonsiliasi statistik terakhir
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StatisticsDriftReport getLastStatisticsDrift() {
+        return catalogStatisticsReconciler.getLastReport();
+    }
+    
+    /**
+     * Mendapatkan statistik cache getBookById (hit/miss/eviction)
+     */
+    public CacheStatistics getCacheStatistics() {
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS_CACHE);
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
         
-        return new BookStatistics(totalBooks, totalStock, availableBooks, borrowedBooks);
+        return new CacheStatistics(nativeCache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.hitRate());
     }
     
     /**
@@ -284,12 +1004,21 @@ public class BookService {
         private final Long totalStock;
         private final Long availableBooks;
         private final Long borrowedBooks;
+        private final Long reservedBooks;
+        private final Long lostBooks;
+        private final Long damagedBooks;
+        private final Double totalInventoryValue;
         
-        public BookStatistics(Long totalBooks, Long totalStock, Long availableBooks, Long borrowedBooks) {
+        public BookStatistics(Long totalBooks, Long totalStock, Long availableBooks, Long borrowedBooks,
+                              Long reservedBooks, Long lostBooks, Long damagedBooks, Double totalInventoryValue) {
             this.totalBooks = totalBooks;
             this.totalStock = totalStock;
             this.availableBooks = availableBooks;
             this.borrowedBooks = borrowedBooks;
+            this.reservedBooks = reservedBooks;
+            this.lostBooks = lostBooks;
+            this.damagedBooks = damagedBooks;
+            this.totalInventoryValue = totalInventoryValue;
         }
         
         // Getters
@@ -297,5 +1026,35 @@ public class BookService {
         public Long getTotalStock() { return totalStock; }
         public Long getAvailableBooks() { return availableBooks; }
         public Long getBorrowedBooks() { return borrowedBooks; }
+        public Long getReservedBooks() { return reservedBooks; }
+        public Long getLostBooks() { return lostBooks; }
+        public Long getDamagedBooks() { return damagedBooks; }
+        public Double getTotalInventoryValue() { return totalInventoryValue; }
+    }
+    
+    /**
+     * Inner class untuk statistik cache
+     */
+    public static class CacheStatistics {
+        private final long size;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final double hitRate;
+        
+        public CacheStatistics(long size, long hitCount, long missCount, long evictionCount, double hitRate) {
+            this.size = size;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.hitRate = hitRate;
+        }
+        
+        // Getters
+        public long getSize() { return size; }
+        public long getHitCount() { return hitCount; }
+        public long getMissCount() { return missCount; }
+        public long getEvictionCount() { return evictionCount; }
+        public double getHitRate() { return hitRate; }
     }
-} 
\ No newline at end of file
+}
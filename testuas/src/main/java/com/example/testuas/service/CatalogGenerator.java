@@ -0,0 +1,274 @@
+package com.example.testuas.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.testuas.entity.Book;
+import com.example.testuas.repository.BookBulkRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generator katalog buku sintetis yang deterministik untuk uji skala dan soak test
+ * 
+ * - Seed + jumlah yang sama selalu menghasilkan baris yang sama (termasuk ID, karena sequence diulang dari 1)
+ * - Distribusi dibuat mendekati katalog nyata:
+ *   penulis dan kategori Zipf, stok miring ke nilai kecil (sebagian habis),
+ *   tahun terbit condong ke tahun terbaru, harga log-normal
+ * - ISBN-13 unik dengan check digit yang valid
+ * - Disimpan lewat BookBulkRepository (JDBC batch), bukan BookService.createBook per baris
+ */
+@Service
+@Slf4j
+public class CatalogGenerator {
+    
+    public static final int MAX_BOOKS = 10_000_000;
+    
+    private static final String[] CATEGORIES = {
+        "Fiction", "Programming", "History", "Science", "Business", "Education", "Religion", "Self Development",
+        "Children", "Comics", "Biography", "Psychology", "Health", "Cooking", "Travel", "Art",
+        "Philosophy", "Law", "Politics", "Economics", "Mathematics", "Engineering", "Medicine", "Poetry",
+        "Language", "Music", "Sports", "Agriculture", "Architecture", "Photography"
+    };
+    
+    private static final String[] WORDS = {
+        "cahaya", "langit", "rumah", "jalan", "hujan", "laut", "bumi", "waktu", "cinta", "sejarah",
+        "negeri", "kota", "desa", "pagi", "malam", "rahasia", "mimpi", "perjalanan", "hutan", "sungai",
+        "pemrograman", "algoritma", "data", "jaringan", "sistem", "desain", "arsitektur", "ekonomi", "bisnis", "manajemen",
+        "strategi", "pemasaran", "keuangan", "investasi", "kepemimpinan", "fisika", "kimia", "biologi", "matematika", "statistika",
+        "filsafat", "budaya", "bahasa", "sastra", "puisi", "seni", "musik", "kesehatan", "gizi", "olahraga",
+        "politik", "hukum", "pendidikan", "anak", "keluarga", "agama", "doa", "kehidupan", "pikiran", "jiwa",
+        "nusantara", "indonesia", "jawa", "sumatra", "bali", "papua", "rempah", "kopi", "teh", "pangan"
+    };
+    
+    private static final String[] FIRST_NAMES = {
+        "Andi", "Budi", "Citra", "Dewi", "Eko", "Fajar", "Gita", "Hadi", "Indah", "Joko", "Kartika", "Lestari",
+        "Maya", "Nur", "Oka", "Putri", "Rizky", "Sari", "Tono", "Umar", "Vina", "Wahyu", "Yusuf", "Zahra"
+    };
+    
+    private static final String[] LAST_NAMES = {
+        "Pratama", "Saputra", "Wijaya", "Santoso", "Hidayat", "Nugroho", "Kusuma", "Siregar", "Nasution", "Harahap",
+        "Simanjuntak", "Gunawan", "Setiawan", "Hakim", "Rahman", "Susanto", "Purnama", "Lubis", "Halim", "Utomo"
+    };
+    
+    private final BookBulkRepository bookBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    
+    public CatalogGenerator(BookBulkRepository bookBulkRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.import.batch-size:1000}") int batchSize) {
+        this.bookBulkRepository = bookBulkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * Mengganti isi tabel books dengan count buku sintetis
+     * Index in-memory tidak diperbarui di sini, panggil BookIndexMaintainer.rebuild() setelahnya
+     * (saat startup hal ini terjadi otomatis pada ApplicationReadyEvent)
+     * @return jumlah buku yang dibuat
+     */
+    public long generate(long seed, int count) {
+        if (count < 0 || count > MAX_BOOKS) {
+            throw new IllegalArgumentException("Jumlah buku harus antara 0-" + MAX_BOOKS);
+        }
+        log.info("Generating {} synthetic books with seed {}", count, seed);
+        long start = System.nanoTime();
+        
+        Generator generator = new Generator(seed, count);
+        transactionTemplate.executeWithoutResult(status -> bookBulkRepository.truncateAndRestartIds());
+        
+        List<Book> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            batch.add(generator.next(i));
+            if (batch.size() == batchSize || i == count - 1) {
+                insert(batch);
+                batch.clear();
+            }
+            if ((i + 1) % 1_000_000 == 0) {
+                log.info("Generated {} of {} books", i + 1, count);
+            }
+        }
+        
+        long durationMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Generated {} books in {} ms ({} rows/s)", count, durationMs, count * 1000L / durationMs);
+        return count;
+    }
+    
+    private void insert(List<Book> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long[] ids = bookBulkRepository.allocateIds(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setId(ids[i]);
+            }
+            bookBulkRepository.insertAll(batch);
+        });
+    }
+    
+    /**
+     * Hitung check digit ISBN-13 dari 12 digit pertama (bobot 1 dan 3 bergantian)
+     */
+    public static int isbn13CheckDigit(String first12Digits) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = first12Digits.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return (10 - sum % 10) % 10;
+    }
+    
+    /**
+     * State generator untuk satu proses generate
+     * Semua nilai acak berasal dari satu SplittableRandom dengan seed tetap
+     */
+    private static final class Generator {
+        
+        /**
+         * Pengali ganjil dan bukan kelipatan 5 (relatif prima terhadap 10^9),
+         * sehingga index -> (index * pengali) mod 10^9 adalah permutasi: ISBN terlihat acak tapi unik
+         */
+        private static final long ISBN_MULTIPLIER = 387_420_489L;
+        private static final long ISBN_SPACE = 1_000_000_000L;
+        
+        private final SplittableRandom random;
+        private final ZipfSampler authors;
+        private final ZipfSampler categories;
+        private final ZipfSampler words;
+        
+        Generator(long seed, int count) {
+            this.random = new SplittableRandom(seed);
+            this.authors = new ZipfSampler(Math.max(10, Math.min(200_000, count / 20)), 1.07);
+            this.categories = new ZipfSampler(CATEGORIES.length, 1.2);
+            this.words = new ZipfSampler(WORDS.length, 0.9);
+        }
+        
+        Book next(long index) {
+            Book book = new Book();
+            book.setTitle(title());
+            book.setAuthor(author(authors.sample(random)));
+            book.setIsbn(isbn(index));
+            book.setPublicationYear(year());
+            book.setCategory(CATEGORIES[categories.sample(random)]);
+            book.setDescription(description());
+            book.setStockQuantity(stock());
+            book.setPrice(price());
+            book.setStatus(Book.statusForStock(book.getStockQuantity()));
+            return book;
+        }
+        
+        private String title() {
+            int length = 1 + random.nextInt(5);
+            StringBuilder title = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                String word = WORDS[words.sample(random)];
+                if (i > 0) {
+                    title.append(' ');
+                }
+                title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            }
+            return title.toString();
+        }
+        
+        /**
+         * Nama penulis ke-rank, deterministik dari rank sehingga penulis populer selalu bernama sama
+         */
+        private static String author(int rank) {
+            String name = FIRST_NAMES[rank % FIRST_NAMES.length] + " "
+                    + LAST_NAMES[(rank / FIRST_NAMES.length) % LAST_NAMES.length];
+            int generation = rank / (FIRST_NAMES.length * LAST_NAMES.length);
+            return generation == 0 ? name : name + " " + (generation + 1);
+        }
+        
+        private static String isbn(long index) {
+            long body = (index * ISBN_MULTIPLIER) % ISBN_SPACE;
+            String first12 = (index % 2 == 0 ? "978" : "979") + String.format("%09d", body);
+            return first12 + isbn13CheckDigit(first12);
+        }
+        
+        /**
+         * Tahun terbit condong ke tahun terbaru (setengah normal), dibatasi 1900-2025
+         */
+        private int year() {
+            int age = (int) Math.abs(gaussian() * 15);
+            return Math.max(1900, 2025 - age);
+        }
+        
+        /**
+         * Stok miring: sekitar 8% habis, sisanya eksponensial dengan rata-rata ~8, dibatasi 500
+         */
+        private int stock() {
+            if (random.nextDouble() < 0.08) {
+                return 0;
+            }
+            return (int) Math.min(500, 1 + Math.floor(-Math.log(1 - random.nextDouble()) * 8));
+        }
+        
+        /**
+         * Harga log-normal dengan median sekitar Rp95.000, dibulatkan ke ribuan
+         */
+        private double price() {
+            double value = Math.exp(Math.log(95_000) + 0.6 * gaussian());
+            return Math.max(10_000, Math.min(2_000_000, Math.round(value / 1_000) * 1_000));
+        }
+        
+        private String description() {
+            if (random.nextDouble() < 0.2) {
+                return null;
+            }
+            int sentences = 1 + random.nextInt(4);
+            StringBuilder description = new StringBuilder();
+            for (int i = 0; i < sentences; i++) {
+                if (i > 0) {
+                    description.append(' ');
+                }
+                description.append("Buku tentang ").append(WORDS[words.sample(random)])
+                        .append(" dan ").append(WORDS[words.sample(random)]).append('.');
+            }
+            return description.toString();
+        }
+        
+        /**
+         * Normal baku (Box-Muller), memakai random yang sama agar tetap deterministik
+         */
+        private double gaussian() {
+            double u1 = 1 - random.nextDouble();
+            double u2 = random.nextDouble();
+            return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+        }
+    }
+    
+    /**
+     * Sampler distribusi Zipf: rank k (0-based) dipilih dengan peluang sebanding 1 / (k + 1)^s
+     * CDF dihitung sekali, sampling memakai binary search
+     */
+    static final class ZipfSampler {
+        
+        private final double[] cdf;
+        
+        ZipfSampler(int size, double exponent) {
+            cdf = new double[size];
+            double sum = 0;
+            for (int k = 0; k < size; k++) {
+                sum += 1 / Math.pow(k + 1, exponent);
+                cdf[k] = sum;
+            }
+            for (int k = 0; k < size; k++) {
+                cdf[k] /= sum;
+            }
+        }
+        
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cdf.length - 1);
+        }
+    }
+}
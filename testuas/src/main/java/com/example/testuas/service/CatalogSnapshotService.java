@@ -0,0 +1,106 @@
+package com.example.testuas.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snapshot dan restore katalog untuk database H2 mode file (profile "persistent")
+ *
+ * - Snapshot: CHECKPOINT lalu BACKUP TO, yaitu salinan file MVStore yang dikompresi ke zip.
+ *   Berjalan online dan konsisten, tanpa menghentikan aplikasi.
+ * - Restore: file MVStore diekstrak dari zip (format BACKUP TO H2) sebelum database dibuka
+ *   (lihat SnapshotRestoreEnvironmentPostProcessor). Tidak ada INSERT yang diputar ulang
+ *   sehingga waktu restore hanya sebanding dengan ukuran file, bukan jumlah baris dan index.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+
+    private static final String FILE_URL_PREFIX = "jdbc:h2:file:";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Menyimpan snapshot database ke file zip
+     * @return ukuran file snapshot dalam byte
+     */
+    public long createSnapshot(Path target) {
+        String url = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+        if (url == null || !url.startsWith(FILE_URL_PREFIX)) {
+            throw new IllegalStateException("Snapshot hanya tersedia untuk database H2 mode file (profile persistent)");
+        }
+        log.info("Creating catalog snapshot {}", target);
+        long start = System.nanoTime();
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            jdbcTemplate.execute("CHECKPOINT SYNC");
+            jdbcTemplate.execute("BACKUP TO '" + target.toAbsolutePath().toString().replace("'", "''") + "'");
+            long size = Files.size(target);
+            log.info("Created catalog snapshot {} ({} bytes) in {} ms", target, size, (System.nanoTime() - start) / 1_000_000);
+            return size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Mengekstrak snapshot ke lokasi database pada jdbcUrl
+     * Harus dipanggil sebelum ada koneksi ke database tersebut.
+     */
+    public static void restore(Path snapshot, String jdbcUrl) {
+        if (!Files.isRegularFile(snapshot)) {
+            throw new IllegalArgumentException("File snapshot tidak ditemukan: " + snapshot);
+        }
+        Path database = databasePath(jdbcUrl);
+        Path directory = database.toAbsolutePath().getParent();
+        Path target = directory.resolve(database.getFileName() + ".mv.db");
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(snapshot))) {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(database.getFileName() + ".trace.db"));
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if (entry.getName().endsWith(".mv.db")) {
+                    Files.copy(zip, target, StandardCopyOption.REPLACE_EXISTING);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new IllegalArgumentException("File snapshot tidak berisi database H2: " + snapshot);
+    }
+
+    /**
+     * Lokasi file database (tanpa ekstensi) dari URL jdbc:h2:file:path[;opsi]
+     */
+    static Path databasePath(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith(FILE_URL_PREFIX)) {
+            throw new IllegalArgumentException("Restore snapshot memerlukan URL jdbc:h2:file:, bukan " + jdbcUrl);
+        }
+        String path = jdbcUrl.substring(FILE_URL_PREFIX.length());
+        int options = path.indexOf(';');
+        if (options >= 0) {
+            path = path.substring(0, options);
+        }
+        if (path.startsWith("~")) {
+            path = System.getProperty("user.home") + path.substring(1);
+        }
+        return Path.of(path);
+    }
+}
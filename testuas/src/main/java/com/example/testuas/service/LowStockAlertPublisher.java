@@ -0,0 +1,249 @@
+package com.example.testuas.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.testuas.dto.LowStockAlert;
+import com.example.testuas.index.BookChangeListener;
+import com.example.testuas.index.BookSnapshot;
+import com.example.testuas.index.LowStockIndex;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mendorong notifikasi stok rendah, menggantikan polling GET /api/books/low-stock
+ *
+ * Setiap perubahan yang sudah di-commit (tambah/kurangi stok, update, import) diperiksa terhadap
+ * threshold LowStockIndex. Hanya perubahan yang melewati threshold (naik atau turun) yang menghasilkan alert,
+ * yang dikirim ke subscriber SSE /api/books/low-stock/alerts dan ke webhook app.low-stock.webhook-url (jika diisi).
+ * Pengiriman berjalan di luar thread yang melakukan commit:
+ * - Setiap subscriber SSE punya antrean sendiri (app.low-stock.subscriber-queue-capacity) dan paling banyak
+ *   satu task pengiriman, seperti BookChangeFeed, sehingga client yang lambat hanya menahan dirinya sendiri.
+ *   Subscriber yang antreannya penuh (pengiriman macet) atau yang send-nya gagal ditutup dan dilepas.
+ * - Webhook dikirim dari satu thread dengan antrean terbatas (app.low-stock.queue-capacity); jika penuh
+ *   alert dibuang dan dihitung di metrik book.low-stock.alerts.dropped, bukan menumpuk di memory
+ * - Webhook memakai connect/read timeout sehingga endpoint yang macet tidak menahan antrean selamanya
+ * - Saat aplikasi berhenti, alert webhook yang masih antre diberi waktu singkat untuk terkirim
+ */
+@Service
+@Slf4j
+public class LowStockAlertPublisher implements BookChangeListener {
+
+    private final LowStockIndex lowStockIndex;
+    private final RestClient webhookClient;
+    private final long emitterTimeoutMs;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final int subscriberQueueCapacity;
+    private final Counter droppedAlerts;
+    private final ThreadPoolExecutor webhookDispatcher;
+    private final AtomicInteger subscriberThreads = new AtomicInteger();
+    private final ExecutorService subscriberDispatcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "low-stock-alerts-sse-" + subscriberThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LowStockAlertPublisher(LowStockIndex lowStockIndex,
+                                  RestClient.Builder restClientBuilder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.low-stock.webhook-url:}") String webhookUrl,
+                                  @Value("${app.low-stock.webhook-connect-timeout:2s}") Duration connectTimeout,
+                                  @Value("${app.low-stock.webhook-read-timeout:5s}") Duration readTimeout,
+                                  @Value("${app.low-stock.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${app.low-stock.subscriber-queue-capacity:100}") int subscriberQueueCapacity,
+                                  @Value("${app.changes.sse-timeout:30m}") Duration sseTimeout) {
+        if (queueCapacity <= 0 || subscriberQueueCapacity <= 0) {
+            throw new IllegalArgumentException("Kapasitas antrean alert stok rendah harus lebih dari 0");
+        }
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        this.lowStockIndex = lowStockIndex;
+        this.webhookClient = webhookUrl.isBlank() ? null : restClientBuilder
+                .baseUrl(webhookUrl)
+                .requestFactory(requestFactory(connectTimeout, readTimeout))
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.emitterTimeoutMs = sseTimeout.toMillis();
+        this.droppedAlerts = meterRegistry.counter("book.low-stock.alerts.dropped");
+        this.webhookDispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "low-stock-alerts-webhook");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> {
+                    droppedAlerts.increment();
+                    log.warn("Low stock alert dropped, queue full or shutting down ({} dropped so far)", (long) droppedAlerts.count());
+                });
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(Duration connectTimeout, Duration readTimeout) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeout);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+
+    @Override
+    public void onChange(BookSnapshot before, BookSnapshot after) {
+        LowStockAlert alert = detect(before, after);
+        if (alert == null) {
+            return;
+        }
+        meterRegistry.counter("book.low-stock.alerts", "type", alert.type().name()).increment();
+        log.info("Low stock alert {} for book ID: {} (stock {}, threshold {})",
+                alert.type(), alert.bookId(), alert.stockQuantity(), alert.threshold());
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(alert)) {
+                signal(subscriber);
+            } else {
+                meterRegistry.counter("book.low-stock.subscribers.dropped").increment();
+                log.warn("Low stock alert subscriber is not keeping up ({} alerts queued), disconnecting",
+                        subscriberQueueCapacity);
+                disconnect(subscriber, null);
+            }
+        }
+        if (webhookClient != null) {
+            webhookDispatcher.execute(() -> sendToWebhook(alert));
+        }
+    }
+
+    /**
+     * Berlangganan alert stok rendah lewat SSE (nama event = jenis alert)
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(emitterTimeoutMs));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(subscriberQueueCapacity));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.info("Low stock alert subscriber connected ({} subscribers)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Memberi alert yang masih antre waktu singkat untuk terkirim, lalu menutup koneksi SSE
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        subscriberDispatcher.shutdownNow();
+        webhookDispatcher.shutdown();
+        if (!webhookDispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Dropping {} queued low stock alerts on shutdown", webhookDispatcher.shutdownNow().size());
+        }
+        subscribers.forEach(subscriber -> disconnect(subscriber, null));
+    }
+
+    /**
+     * Alert jika perubahan melewati threshold, null jika tidak
+     * Buku yang dihapus tidak menghasilkan alert
+     */
+    LowStockAlert detect(BookSnapshot before, BookSnapshot after) {
+        if (after == null) {
+            return null;
+        }
+        boolean wasLow = before != null && lowStockIndex.isLow(before);
+        boolean isLow = lowStockIndex.isLow(after);
+        if (wasLow == isLow || after.stockQuantity() == null) {
+            return null;
+        }
+        return new LowStockAlert(isLow ? LowStockAlert.Type.LOW_STOCK : LowStockAlert.Type.RESTOCKED,
+                after.id(), after.title(), after.category(), after.stockQuantity(),
+                lowStockIndex.thresholdFor(after.category()), Instant.now());
+    }
+
+    /**
+     * Menjadwalkan pengiriman untuk satu subscriber jika belum ada task yang berjalan untuknya;
+     * sinyal yang datang selama pengiriman membuat task yang sama mengulang, bukan menambah task baru
+     */
+    private void signal(Subscriber subscriber) {
+        if (subscriber.signals.getAndIncrement() == 0 && !subscriberDispatcher.isShutdown()) {
+            subscriberDispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        int seen;
+        do {
+            seen = subscriber.signals.get();
+            LowStockAlert alert;
+            while (!subscriber.closed.get() && (alert = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name(alert.type().name()).data(alert));
+                } catch (IOException | IllegalStateException e) {
+                    log.info("Low stock alert subscriber disconnected: {}", e.getMessage());
+                    disconnect(subscriber, e);
+                }
+            }
+        } while (!subscriber.signals.compareAndSet(seen, 0));
+    }
+
+    /**
+     * Melepas subscriber dan menutup koneksinya; aman dipanggil lebih dari sekali
+     */
+    private void disconnect(Subscriber subscriber, Throwable error) {
+        subscribers.remove(subscriber);
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriber.queue.clear();
+        if (error != null) {
+            subscriber.emitter.completeWithError(error);
+        } else {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void sendToWebhook(LowStockAlert alert) {
+        try {
+            webhookClient.post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(alert)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            meterRegistry.counter("book.low-stock.webhook.failures").increment();
+            log.warn("Failed to deliver low stock alert for book ID: {} to webhook: {}", alert.bookId(), e.getMessage());
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<LowStockAlert> queue;
+        private final AtomicInteger signals = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, BlockingQueue<LowStockAlert> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
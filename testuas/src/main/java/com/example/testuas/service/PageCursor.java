@@ -0,0 +1,74 @@
+package com.example.testuas.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utilitas untuk membuat dan membaca cursor pagination
+ * 
+ * Cursor berisi nilai kunci baris terakhir pada halaman sebelumnya
+ * (misalnya ID, atau stok + ID) yang dikodekan Base64 URL-safe,
+ * sehingga client cukup memperlakukannya sebagai string opaque.
+ */
+public final class PageCursor {
+    
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 1000;
+    
+    private PageCursor() {
+    }
+    
+    /**
+     * Mengkodekan nilai kunci menjadi cursor
+     */
+    public static String encode(long... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(':');
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Membaca cursor menjadi nilai kunci
+     * @param cursor cursor dari halaman sebelumnya, null/kosong untuk halaman pertama
+     * @param initial nilai kunci untuk halaman pertama
+     */
+    public static long[] decode(String cursor, long... initial) {
+        if (cursor == null || cursor.isBlank()) {
+            return initial;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != initial.length) {
+                throw new IllegalArgumentException("Cursor tidak valid: " + cursor);
+            }
+            long[] keys = new long[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                keys[i] = Long.parseLong(parts[i]);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException dan error Base64 juga merupakan IllegalArgumentException
+            throw new IllegalArgumentException("Cursor tidak valid: " + cursor);
+        }
+    }
+    
+    /**
+     * Memvalidasi ukuran halaman
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit harus antara 1-" + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
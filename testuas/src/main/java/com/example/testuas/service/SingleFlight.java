@@ -0,0 +1,100 @@
+package com.example.testuas.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Request coalescing (single-flight) untuk query baca yang identik
+ *
+ * Pemanggil pertama untuk (operation, argument) menjalankan loader; pemanggil lain yang datang
+ * selama eksekusi itu berjalan menunggu CompletableFuture yang sama dan menerima hasil (atau exception)
+ * yang sama. Setelah selesai, key dilepas sehingga pemanggil berikutnya memulai eksekusi baru:
+ * tidak ada hasil yang disimpan seperti cache.
+ *
+ * Menunggu lewat CompletableFuture.join tanpa synchronized, sehingga virtual thread yang menunggu
+ * di-unmount dari carrier thread, dan platform thread cukup diblokir seperti biasa.
+ *
+ * Metrik: counter "book.singleflight.calls" dengan tag operation dan result (executed/coalesced),
+ * rasio coalescing = coalesced / (executed + coalesced); gauge "book.singleflight.in-flight".
+ */
+@Component
+public class SingleFlight {
+
+    private record Key(String operation, Object argument) {
+    }
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${app.singleflight.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        meterRegistry.gaugeMapSize("book.singleflight.in-flight", Tags.empty(), inFlight);
+    }
+
+    /**
+     * Menjalankan loader, atau ikut menunggu eksekusi identik yang sedang berjalan
+     * @param argument bagian key selain nama operasi; harus punya equals/hashCode berbasis nilai
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object argument, Supplier<T> loader) {
+        if (!enabled) {
+            counter(operation, "executed").increment();
+            return loader.get();
+        }
+
+        Key key = new Key(operation, argument);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            counter(operation, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(operation, "executed").increment();
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Counter counter(String operation, String result) {
+        return Counter.builder("book.singleflight.calls")
+                .description("Panggilan baca per operasi: dieksekusi sendiri atau menumpang eksekusi yang sedang berjalan")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -12,8 +12,9 @@
 -- ===========================================
 
 -- Buku 1: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    1,
     'Clean Code: A Handbook of Agile Software Craftsmanship',
     'Robert C. Martin',
     '9780132350884',
@@ -28,8 +29,9 @@ VALUES (
 );
 
 -- Buku 2: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    2,
     'Design Patterns: Elements of Reusable Object-Oriented Software',
     'Erich Gamma, Richard Helm, Ralph Johnson, John Vlissides',
     '9780201633610',
@@ -44,8 +46,9 @@ VALUES (
 );
 
 -- Buku 3: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    3,
     'Effective Java',
     'Joshua Bloch',
     '9780134685991',
@@ -60,8 +63,9 @@ VALUES (
 );
 
 -- Buku 4: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    4,
     'Spring in Action',
     'Craig Walls',
     '9781617294945',
@@ -76,8 +80,9 @@ VALUES (
 );
 
 -- Buku 5: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    5,
     'Head First Design Patterns',
     'Eric Freeman, Elisabeth Robson',
     '9780596007126',
@@ -92,8 +97,9 @@ VALUES (
 );
 
 -- Buku 6: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    6,
     'Refactoring: Improving the Design of Existing Code',
     'Martin Fowler',
     '9780134757599',
@@ -108,8 +114,9 @@ VALUES (
 );
 
 -- Buku 7: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    7,
     'Test Driven Development: By Example',
     'Kent Beck',
     '9780321146533',
@@ -124,8 +131,9 @@ VALUES (
 );
 
 -- Buku 8: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    8,
     'The Pragmatic Programmer: Your Journey to Mastery',
     'Andrew Hunt, David Thomas',
     '9780135957059',
@@ -140,8 +148,9 @@ VALUES (
 );
 
 -- Buku 9: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    9,
     'Domain-Driven Design: Tackling Complexity in the Heart of Software',
     'Eric Evans',
     '9780321125217',
@@ -156,8 +165,9 @@ VALUES (
 );
 
 -- Buku 10: Programming
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    10,
     'Clean Architecture: A Craftsman''s Guide to Software Structure and Design',
     'Robert C. Martin',
     '9780134494166',
@@ -172,8 +182,9 @@ VALUES (
 );
 
 -- Buku 11: Programming (Stok rendah untuk testing)
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    11,
     'Microservices Patterns: With Examples in Java',
     'Chris Richardson',
     '9781617294549',
@@ -188,8 +199,9 @@ VALUES (
 );
 
 -- Buku 12: Programming (Stok rendah untuk testing)
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    12,
     'Building Microservices: Designing Fine-Grained Systems',
     'Sam Newman',
     '9781491950357',
@@ -204,8 +216,9 @@ VALUES (
 );
 
 -- Buku 13: Programming (Dipinjam untuk testing)
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    13,
     'Kubernetes: Up and Running',
     'Kelsey Hightower, Brendan Burns, Joe Beda',
     '9781491935675',
@@ -220,8 +233,9 @@ VALUES (
 );
 
 -- Buku 14: Programming (Dipinjam untuk testing)
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    14,
     'Docker in Action',
     'Jeff Nickoloff',
     '9781633430235',
@@ -236,8 +250,9 @@ VALUES (
 );
 
 -- Buku 15: Programming (Dipesan untuk testing)
-INSERT INTO books (title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
+INSERT INTO books (id, title, author, isbn, publication_year, category, description, stock_quantity, price, status, created_at, updated_at) 
 VALUES (
+    15,
     'The Phoenix Project: A Novel About IT, DevOps, and Helping Your Business Win',
     'Gene Kim, Kevin Behr, George Spafford',
     '9781942788294',
@@ -251,6 +266,10 @@ VALUES (
     CURRENT_TIMESTAMP
 );
 
+-- ID sample ditulis eksplisit, sequence dilanjutkan dari ID berikutnya
+-- (Hibernate memakai optimizer pooled-lo: nilai sequence = ID pertama dalam satu blok)
+ALTER SEQUENCE books_seq RESTART WITH 16;
+
 -- ===========================================
 -- KOMENTAR TENTANG DATA SEEDING
 -- ===========================================
@@ -0,0 +1,32 @@
+-- ===========================================
+-- SCHEMA TABEL BOOKS UNTUK MODE PERSISTENT
+-- ===========================================
+-- Dijalankan pada profile "persistent" sebelum Hibernate memvalidasi schema
+-- (spring.jpa.hibernate.ddl-auto=validate). Semua perintah memakai IF NOT EXISTS
+-- sehingga aman dijalankan ulang setiap startup tanpa menyentuh data.
+-- Definisi kolom harus sama dengan mapping entitas Book.
+
+CREATE SEQUENCE IF NOT EXISTS books_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS books (
+    id BIGINT DEFAULT NEXT VALUE FOR books_seq NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    isbn VARCHAR(20) UNIQUE,
+    publication_year INTEGER,
+    category VARCHAR(100),
+    category_key VARCHAR(100) GENERATED ALWAYS AS (UPPER(category)),
+    description TEXT,
+    stock_quantity INTEGER NOT NULL,
+    price FLOAT(53),
+    status ENUM ('AVAILABLE', 'BORROWED', 'RESERVED', 'LOST', 'DAMAGED') NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_books_category_key ON books (category_key, id);
+CREATE INDEX IF NOT EXISTS idx_books_status ON books (status, id);
+CREATE INDEX IF NOT EXISTS idx_books_stock ON books (stock_quantity, id);
+CREATE INDEX IF NOT EXISTS idx_books_publication_year ON books (publication_year);
+CREATE INDEX IF NOT EXISTS idx_books_price ON books (price);
@@ -1,6 +1,7 @@
 // Global variables
 let books = [];
 let currentBookId = null;
+let changeStream = null;
 let currentPage = 1;
 const booksPerPage = 10;
 
@@ -44,15 +45,44 @@ function updateThemeIcon(theme) {
 // Load and display books
 async function loadBooks() {
     try {
+        // Sequence change feed diambil sebelum data penuh, agar perubahan di antaranya tidak terlewat
+        const changesResponse = await fetch(`${API_BASE_URL}/changes`);
+        if (!changesResponse.ok) throw new Error('Gagal mengambil change feed');
+        const changes = await changesResponse.json();
+
         const response = await fetch(API_BASE_URL);
         if (!response.ok) throw new Error('Gagal mengambil data');
-        const books = await response.json();
+        books = await response.json();
         displayBooks(books);
+        subscribeChanges(changes.latestSequence);
     } catch (err) {
         bookTableBody.innerHTML = `<tr><td colspan="10">Gagal memuat data buku</td></tr>`;
     }
 }
 
+// Change feed (SSE): perubahan diterapkan ke daftar lokal tanpa memuat ulang semua buku
+function subscribeChanges(since) {
+    if (changeStream) changeStream.close();
+    changeStream = new EventSource(`${API_BASE_URL}/changes/stream?since=${since}`);
+    ['CREATED', 'UPDATED', 'DELETED', 'STOCK_CHANGED'].forEach(type => {
+        changeStream.addEventListener(type, event => applyChange(JSON.parse(event.data)));
+    });
+    // Tertinggal lebih jauh dari retensi change feed: muat ulang data penuh
+    changeStream.addEventListener('resync', () => loadBooks());
+}
+
+function applyChange(change) {
+    const index = books.findIndex(book => book.id === change.bookId);
+    if (change.type === 'DELETED') {
+        if (index >= 0) books.splice(index, 1);
+    } else if (index >= 0) {
+        books[index] = { ...books[index], ...change.book };
+    } else {
+        books.push(change.book);
+    }
+    displayBooks(books);
+}
+
 function displayBooks(books) {
     bookTableBody.innerHTML = '';
     if (!books.length) {
@@ -103,7 +133,6 @@ addBookForm.addEventListener('submit', async function(e) {
         });
         if (!response.ok) throw new Error('Gagal menambah buku');
         addBookForm.reset();
-        loadBooks();
     } catch (err) {
         alert('Gagal menambah buku');
     }
@@ -115,7 +144,6 @@ async function deleteBook(id) {
     try {
         const response = await fetch(`${API_BASE_URL}/${id}`, { method: 'DELETE' });
         if (!response.ok) throw new Error('Gagal menghapus buku');
-        loadBooks();
     } catch (err) {
         alert('Gagal menghapus buku');
     }
@@ -0,0 +1,36 @@
+package com.example.testuas;
+
+import com.example.testuas.dto.BookRequest;
+
+/**
+ * Data uji bersama untuk test yang membuat buku lewat BookService
+ *
+ * Setiap test memakai kategori sendiri agar datanya tidak tercampur dengan test lain
+ * yang berjalan di context Spring yang sama. Field lain (tahun terbit, deskripsi, ISBN)
+ * diisi langsung oleh test yang membutuhkannya.
+ */
+public final class BookFixtures {
+
+    private BookFixtures() {
+    }
+
+    /**
+     * BookRequest valid dengan stok 3 dan harga 50000
+     */
+    public static BookRequest book(String title, String category) {
+        return book(title, category, 3, 50000.0);
+    }
+
+    /**
+     * BookRequest valid dengan stok dan harga tertentu
+     */
+    public static BookRequest book(String title, String category, int stock, double price) {
+        BookRequest request = new BookRequest();
+        request.setTitle(title);
+        request.setAuthor("Penulis Uji");
+        request.setCategory(category);
+        request.setStockQuantity(stock);
+        request.setPrice(price);
+        return request;
+    }
+}
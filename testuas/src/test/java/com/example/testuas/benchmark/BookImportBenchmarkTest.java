@@ -0,0 +1,61 @@
+package com.example.testuas.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.testuas.dto.ImportReport;
+import com.example.testuas.service.BookImportService;
+
+/**
+ * Mengukur bulk import 500 ribu baris CSV
+ * 
+ * mvn test -Dtest=BookImportBenchmarkTest -Dbenchmark=true
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookImportBenchmarkTest {
+
+    private static final int ROWS = 500_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Test
+    void importHalfAMillionRows(@TempDir Path dir) throws Exception {
+        jdbcTemplate.execute("DELETE FROM books");
+        Path csv = dir.resolve("books.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write("title,author,isbn,publicationYear,category,stockQuantity,price\n");
+            for (int i = 0; i < ROWS; i++) {
+                writer.write(String.format("Judul %d,Penulis %d,%013d,%d,Kategori %d,%d,%d%n",
+                        i, i % 5000, 9_780_000_000_000L + i, 1950 + i % 75, i % 20, i % 30, 50_000 + i % 1000));
+            }
+            // Baris dengan ISBN duplikat harus ditolak
+            writer.write("Duplikat,Penulis,9780000000000,2000,Kategori,1,1000\n");
+        }
+
+        ImportReport report;
+        try (InputStream in = Files.newInputStream(csv)) {
+            report = bookImportService.importBooks(BookImportService.ImportFormat.CSV, in);
+        }
+
+        assertEquals(ROWS, report.getImported());
+        assertEquals(1, report.getRejected());
+        System.out.printf("imported=%d rejected=%d in %d ms (%.0f rows/s)%n", report.getImported(),
+                report.getRejected(), report.getDurationMs(), report.getRowsPerSecond());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.testuas.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookBulkRepository;
+import com.example.testuas.repository.BookRepository;
+import com.example.testuas.service.BookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Membandingkan GET /api/books versi lama (entitas managed + BookResponse) dengan proyeksi BookSummary
+ * 
+ * Per panggilan dilaporkan: waktu, byte kolom yang dibaca dari database, alokasi heap thread,
+ * dan ukuran response JSON.
+ * 
+ * mvn test -Dtest=BookSummaryBenchmarkTest -Dbenchmark=true [-Dbenchmark.books=20000]
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookSummaryBenchmarkTest {
+
+    private static final int ITERATIONS = 10;
+    private static final int DESCRIPTION_LENGTH = 1_500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookBulkRepository bookBulkRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void compareEntityWithSummaryProjection() throws Exception {
+        int books = Integer.getInteger("benchmark.books", 20_000);
+        seed(books);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Supplier<List<BookResponse>> entityPath = () -> readOnly.execute(status -> bookRepository.findAll()
+                .stream()
+                .map(BookResponse::fromEntity)
+                .collect(Collectors.toList()));
+        Supplier<List<BookSummary>> summaryPath = bookService::getAllBooks;
+
+        assertEquals(entityPath.get().size(), summaryPath.get().size());
+
+        Long entityColumnBytes = jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(title) + OCTET_LENGTH(author) "
+                + "+ COALESCE(OCTET_LENGTH(isbn), 0) + OCTET_LENGTH(category) + COALESCE(OCTET_LENGTH(description), 0) "
+                + "+ OCTET_LENGTH(status) + 8 + 4 + 4 + 8 + 8 + 8) FROM books", Long.class);
+        Long summaryColumnBytes = jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(title) + OCTET_LENGTH(author) "
+                + "+ COALESCE(OCTET_LENGTH(isbn), 0) + OCTET_LENGTH(category) + OCTET_LENGTH(status) + 8 + 4 + 4 + 8) "
+                + "FROM books", Long.class);
+
+        report("entity", books, entityPath, entityColumnBytes);
+        report("summary", books, summaryPath, summaryColumnBytes);
+    }
+
+    private void report(String name, int books, Supplier<? extends List<?>> path, long columnBytes) throws Exception {
+        for (int i = 0; i < 3; i++) {
+            path.get();
+        }
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        List<?> result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = path.get();
+        }
+        double ms = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        long allocated = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+        int responseBytes = objectMapper.writeValueAsBytes(result).length;
+
+        System.out.printf("path=%s books=%d time=%.1f ms dbColumnBytes=%d heapAllocated=%d bytes responseSize=%d bytes%n",
+                name, books, ms, columnBytes, allocated, responseBytes);
+    }
+
+    private void seed(int books) {
+        jdbcTemplate.execute("DELETE FROM books");
+        Random random = new Random(books);
+        String[] categories = {"Programming", "Fiction", "Science", "History", "Business"};
+        List<Book> rows = new ArrayList<>(books);
+        for (int i = 0; i < books; i++) {
+            Book book = new Book();
+            book.setTitle("Judul Buku " + i);
+            book.setAuthor("Penulis " + random.nextInt(1_000));
+            book.setIsbn(String.format("%013d", 9_780_000_000_000L + i));
+            book.setPublicationYear(1950 + random.nextInt(75));
+            book.setCategory(categories[random.nextInt(categories.length)]);
+            book.setDescription("Deskripsi ".repeat(DESCRIPTION_LENGTH / 10));
+            book.setStockQuantity(random.nextInt(20));
+            book.setStatus(Book.statusForStock(book.getStockQuantity()));
+            book.setPrice(50_000.0 + random.nextInt(200) * 1_000);
+            rows.add(book);
+        }
+        long[] ids = bookBulkRepository.allocateIds(books);
+        for (int i = 0; i < books; i++) {
+            rows.get(i).setId(ids[i]);
+        }
+        bookBulkRepository.insertAll(rows);
+        bookIndexMaintainer.rebuild();
+    }
+}
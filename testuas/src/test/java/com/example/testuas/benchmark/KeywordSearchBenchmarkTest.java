@@ -0,0 +1,103 @@
+package com.example.testuas.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookRepository;
+import com.example.testuas.service.BookService;
+
+/**
+ * Membandingkan searchBooks via KeywordIndex dengan query JPQL searchByKeyword
+ * 
+ * Hanya dijalankan jika diminta:
+ * mvn test -Dtest=KeywordSearchBenchmarkTest -Dbenchmark=true [-Dbenchmark.sizes=10000,100000,1000000]
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class KeywordSearchBenchmarkTest {
+
+    private static final int VOCABULARY = 2000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @Test
+    void compareIndexWithJpql() {
+        String sizes = System.getProperty("benchmark.sizes", "10000,100000,1000000");
+        for (String size : sizes.split(",")) {
+            int books = Integer.parseInt(size.trim());
+            seed(books);
+            bookIndexMaintainer.rebuild();
+
+            String keyword = word(42);
+            int expected = bookRepository.searchByKeyword(keyword).size();
+            assertEquals(expected, bookService.searchBooks(keyword).size());
+
+            double indexMs = measure(() -> bookService.searchBooks(keyword));
+            double jpqlMs = measure(() -> bookRepository.searchByKeyword(keyword));
+            System.out.printf("books=%d matches=%d index=%.2f ms jpql=%.2f ms speedup=%.1fx%n",
+                    books, expected, indexMs, jpqlMs, jpqlMs / indexMs);
+        }
+    }
+
+    private double measure(Supplier<?> search) {
+        for (int i = 0; i < 5; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private void seed(int books) {
+        jdbcTemplate.execute("DELETE FROM books");
+        Random random = new Random(books);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < books; i++) {
+            String title = word(random.nextInt(VOCABULARY)) + " " + word(random.nextInt(VOCABULARY))
+                    + " " + word(random.nextInt(VOCABULARY));
+            batch.add(new Object[] {title, "Penulis " + random.nextInt(5000), "Kategori " + random.nextInt(20),
+                    random.nextInt(20), 100000.0, "AVAILABLE", now, now});
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO books (title, author, category, stock_quantity, price, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private static String word(int n) {
+        return String.format("kata%04d", n);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.testuas.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Load test endpoint baca dengan request diproses thread pool platform Tomcat
+ * 
+ * mvn test -Dtest=PlatformThreadLoadTest,VirtualThreadLoadTest -Dbenchmark=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:load-platform",
+        "logging.level.com.example.testuas=WARN"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PlatformThreadLoadTest extends ReadLoadTestSupport {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
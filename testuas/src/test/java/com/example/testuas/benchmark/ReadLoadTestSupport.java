@@ -0,0 +1,199 @@
+package com.example.testuas.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookBulkRepository;
+
+/**
+ * Load test endpoint baca dengan N klien bersamaan (default 100, 1000, 10000)
+ * 
+ * Setiap klien adalah virtual thread yang mengirim request berurutan secara terus-menerus
+ * ke campuran endpoint baca selama durasi pengukuran. Hasil: throughput, p50/p95/p99/max, jumlah 503 dan error.
+ * 
+ * Subclass menentukan mode thread server (platform atau virtual).
+ * Parameter: -Dbenchmark.clients=100,1000,10000 -Dbenchmark.duration=20 (detik)
+ */
+abstract class ReadLoadTestSupport {
+
+    private static final int BOOKS = 10_000;
+    private static final String[] CATEGORIES = {"Programming", "Fiction", "Science", "History", "Business"};
+    private static final String[] WORDS = {"java", "spring", "sejarah", "novel", "fisika", "ekonomi", "desain", "data"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookBulkRepository bookBulkRepository;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    private long firstId;
+
+    /**
+     * Nama mode untuk laporan
+     */
+    protected abstract String mode();
+
+    @Test
+    void readEndpointsUnderLoad() throws Exception {
+        seed();
+        String clientLevels = System.getProperty("benchmark.clients", "100,1000,10000");
+        Duration duration = Duration.ofSeconds(Long.getLong("benchmark.duration", 20));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // Pemanasan JIT, pool koneksi, dan cache
+        run(client, 50, Duration.ofSeconds(5));
+
+        for (String level : clientLevels.split(",")) {
+            int clients = Integer.parseInt(level.trim());
+            Result result = run(client, clients, duration);
+            System.out.printf("mode=%s clients=%d requests=%d throughput=%.0f req/s p50=%.1f ms p95=%.1f ms "
+                    + "p99=%.1f ms max=%.1f ms rejected503=%d errors=%d%n",
+                    mode(), clients, result.latenciesNanos.length, result.throughput(duration),
+                    result.percentileMillis(0.50), result.percentileMillis(0.95), result.percentileMillis(0.99),
+                    result.percentileMillis(1.0), result.rejected, result.errors);
+            assertTrue(result.latenciesNanos.length > 0);
+        }
+    }
+
+    private Result run(HttpClient client, int clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Random random = new Random(i);
+                futures.add(executor.submit(() -> runClient(client, random, deadline)));
+            }
+        }
+
+        List<long[]> latencies = new ArrayList<>(clients);
+        int total = 0;
+        long rejected = 0;
+        long errors = 0;
+        for (Future<ClientResult> future : futures) {
+            ClientResult clientResult = future.get();
+            latencies.add(clientResult.latencies);
+            total += clientResult.latencies.length;
+            rejected += clientResult.rejected;
+            errors += clientResult.errors;
+        }
+
+        long[] all = new long[total];
+        int n = 0;
+        for (long[] part : latencies) {
+            System.arraycopy(part, 0, all, n, part.length);
+            n += part.length;
+        }
+        Arrays.sort(all);
+        return new Result(all, rejected, errors);
+    }
+
+    private ClientResult runClient(HttpClient client, Random random, long deadline) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long rejected = 0;
+        long errors = 0;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + nextPath(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long elapsed = System.nanoTime() - start;
+                if (response.statusCode() == 503) {
+                    rejected++;
+                } else if (response.statusCode() != 200) {
+                    errors++;
+                } else {
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = elapsed;
+                }
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                errors++;
+            }
+        }
+        return new ClientResult(Arrays.copyOf(latencies, count), rejected, errors);
+    }
+
+    private String nextPath(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> "/api/books/" + (firstId + random.nextInt(BOOKS));
+            case 1 -> "/api/books/search?keyword=" + WORDS[random.nextInt(WORDS.length)];
+            case 2 -> "/api/books/category/" + CATEGORIES[random.nextInt(CATEGORIES.length)] + "?limit=50";
+            case 3 -> "/api/books?limit=50";
+            default -> "/api/books/statistics";
+        };
+    }
+
+    private void seed() {
+        Random random = new Random(BOOKS);
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setTitle(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i);
+            book.setAuthor("Penulis " + random.nextInt(500));
+            book.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            book.setStockQuantity(random.nextInt(20));
+            book.setStatus(Book.statusForStock(book.getStockQuantity()));
+            book.setPrice(50_000.0 + random.nextInt(200) * 1_000);
+            books.add(book);
+        }
+        long[] ids = bookBulkRepository.allocateIds(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.get(i).setId(ids[i]);
+        }
+        firstId = ids[0];
+        bookBulkRepository.insertAll(books);
+        bookIndexMaintainer.rebuild();
+    }
+
+    private record ClientResult(long[] latencies, long rejected, long errors) {
+    }
+
+    private record Result(long[] latenciesNanos, long rejected, long errors) {
+
+        double throughput(Duration duration) {
+            return latenciesNanos.length / (double) duration.toSeconds();
+        }
+
+        double percentileMillis(double percentile) {
+            if (latenciesNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latenciesNanos.length - 1, Math.ceil(percentile * latenciesNanos.length) - 1);
+            return latenciesNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
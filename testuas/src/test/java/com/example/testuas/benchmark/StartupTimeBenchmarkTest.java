@@ -0,0 +1,77 @@
+package com.example.testuas.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.testuas.TestuasApplication;
+import com.example.testuas.repository.BookRepository;
+
+/**
+ * Membandingkan waktu startup sampai aplikasi siap untuk katalog berukuran sama:
+ * - in-memory: database kosong setiap start, katalog harus di-generate ulang
+ * - persistent (cold): file database dipulihkan dari snapshot zip
+ * - persistent (warm): restart biasa, file database sudah ada
+ *
+ * Semua mode termasuk rebuild index in-memory pada ApplicationReadyEvent.
+ *
+ * mvn test -Dtest=StartupTimeBenchmarkTest -Dbenchmark=true [-Dbenchmark.books=1000000]
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupTimeBenchmarkTest {
+
+    private static final Path DATABASE = Path.of("target/h2/startup-benchmark");
+    private static final Path SNAPSHOT = Path.of("target/h2/startup-benchmark.zip");
+
+    @Test
+    void compareStartupModes() throws Exception {
+        int books = Integer.getInteger("benchmark.books", 1_000_000);
+        deleteDatabase();
+
+        long snapshotMs = start(books, new String[] {"persistent", "generate", "snapshot"},
+                "--app.generator.count=" + books, "--app.snapshot.file=" + SNAPSHOT);
+        deleteDatabase();
+
+        long coldMs = start(books, new String[] {"persistent"}, "--app.snapshot.restore=" + SNAPSHOT);
+        long warmMs = start(books, new String[] {"persistent"});
+        long memoryMs = start(books, new String[] {"generate"},
+                "--spring.datasource.url=jdbc:h2:mem:startup-benchmark", "--app.generator.count=" + books);
+
+        System.out.printf("Startup dengan %,d buku (snapshot %,d KB)%n", books, Files.size(SNAPSHOT) / 1024);
+        System.out.printf("%-34s %,10d ms%n", "persistent: generate + snapshot", snapshotMs);
+        System.out.printf("%-34s %,10d ms%n", "persistent cold (restore)", coldMs);
+        System.out.printf("%-34s %,10d ms%n", "persistent warm (restart)", warmMs);
+        System.out.printf("%-34s %,10d ms%n", "in-memory + generate", memoryMs);
+    }
+
+    /**
+     * Menjalankan aplikasi sampai ApplicationReadyEvent selesai diproses, lalu menutupnya
+     * @return waktu startup dalam milidetik
+     */
+    private long start(int expectedBooks, String[] profiles, String... args) {
+        String[] arguments = new String[args.length + 2];
+        arguments[0] = "--server.port=0";
+        arguments[1] = "--app.database.path=" + DATABASE;
+        System.arraycopy(args, 0, arguments, 2, args.length);
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestuasApplication.class)
+                .profiles(profiles)
+                .run(arguments)) {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(expectedBooks, context.getBean(BookRepository.class).count());
+            return elapsedMs;
+        }
+    }
+
+    private static void deleteDatabase() throws Exception {
+        Files.deleteIfExists(Path.of(DATABASE + ".mv.db"));
+        Files.deleteIfExists(Path.of(DATABASE + ".trace.db"));
+    }
+}
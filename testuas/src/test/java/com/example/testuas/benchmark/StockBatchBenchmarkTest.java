@@ -0,0 +1,88 @@
+package com.example.testuas.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.testuas.dto.StockAdjustmentRequest;
+import com.example.testuas.dto.StockAdjustmentResult;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.service.BookService;
+
+/**
+ * Membandingkan throughput penyesuaian stok per item dengan endpoint batch
+ * 
+ * mvn test -Dtest=StockBatchBenchmarkTest -Dbenchmark=true
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockBatchBenchmarkTest {
+
+    private static final int BOOKS = 1_000;
+    private static final int ADJUSTMENTS = 20_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @Test
+    void compareSingleItemWithBatch() {
+        List<Long> ids = seed();
+        List<StockAdjustmentRequest> adjustments = adjustments(ids);
+
+        // Pemanasan JIT dan pool koneksi
+        bookService.adjustStockBatch(adjustments.subList(0, 1_000));
+        adjustments.subList(0, 500).forEach(item -> bookService.addStock(item.getId(), item.getDelta()));
+
+        long start = System.nanoTime();
+        for (StockAdjustmentRequest item : adjustments) {
+            bookService.addStock(item.getId(), item.getDelta());
+        }
+        double singleOpsPerSecond = ADJUSTMENTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        start = System.nanoTime();
+        List<StockAdjustmentResult> results = bookService.adjustStockBatch(adjustments);
+        double batchOpsPerSecond = ADJUSTMENTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        assertTrue(results.stream().allMatch(StockAdjustmentResult::isSuccess));
+        System.out.printf("single=%.0f items/s batch=%.0f items/s speedup=%.1fx%n",
+                singleOpsPerSecond, batchOpsPerSecond, batchOpsPerSecond / singleOpsPerSecond);
+    }
+
+    private List<Long> seed() {
+        jdbcTemplate.execute("DELETE FROM books");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            rows.add(new Object[] {"Judul " + i, "Penulis " + i, "Kategori", 10, 100000.0, "AVAILABLE", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (title, author, category, stock_quantity, price, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        bookIndexMaintainer.rebuild();
+        return jdbcTemplate.queryForList("SELECT id FROM books", Long.class);
+    }
+
+    private static List<StockAdjustmentRequest> adjustments(List<Long> ids) {
+        Random random = new Random(8);
+        List<StockAdjustmentRequest> adjustments = new ArrayList<>(ADJUSTMENTS);
+        for (int i = 0; i < ADJUSTMENTS; i++) {
+            adjustments.add(new StockAdjustmentRequest(ids.get(random.nextInt(ids.size())), 1 + random.nextInt(5)));
+        }
+        return adjustments;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.testuas.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Load test endpoint baca dengan request diproses virtual thread
+ * 
+ * mvn test -Dtest=PlatformThreadLoadTest,VirtualThreadLoadTest -Dbenchmark=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:load-virtual",
+        "logging.level.com.example.testuas=WARN"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadLoadTest extends ReadLoadTestSupport {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.testuas.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.service.BookService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Memastikan method service dan query repository tercatat di MeterRegistry
+ */
+@SpringBootTest
+class MetricsTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceAndRepositoryCallsAreTimed() {
+        int books = bookService.getAllBooks().size();
+
+        Timer service = meterRegistry.find("book.service").tag("method", "getAllBooks").timer();
+        assertNotNull(service);
+        assertTrue(service.count() >= 1);
+
+        Timer query = meterRegistry.find("book.repository.query")
+                .tags("repository", "BookRepository", "method", "findAllSummaries", "outcome", "SUCCESS")
+                .timer();
+        assertNotNull(query);
+        assertTrue(query.count() >= 1);
+
+        DistributionSummary rows = meterRegistry.find("book.repository.rows")
+                .tags("repository", "BookRepository", "method", "findAllSummaries")
+                .summary();
+        assertNotNull(rows);
+        assertTrue(rows.max() >= books);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.testuas.controller;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.service.BookService;
+
+/**
+ * Memastikan response bisa dinegosiasikan ke format biner lewat header Accept
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void returnsCborAndSmileWhenRequested() throws Exception {
+        BookResponse book = bookService.createBook(book("Format Biner", "Testing", 2, 75000.0));
+
+        byte[] cbor = mockMvc.perform(get("/api/books/{id}", book.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Format Biner",
+                Jackson2ObjectMapperBuilder.cbor().build().readValue(cbor, BookResponse.class).getTitle());
+
+        byte[] smile = mockMvc.perform(get("/api/books/{id}", book.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Format Biner",
+                Jackson2ObjectMapperBuilder.smile().build().readValue(smile, BookResponse.class).getTitle());
+    }
+}
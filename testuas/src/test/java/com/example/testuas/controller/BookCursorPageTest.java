@@ -0,0 +1,130 @@
+package com.example.testuas.controller;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.testuas.dto.BookRequest;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.entity.Book;
+import com.example.testuas.service.BookService;
+import com.example.testuas.service.PageCursor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pagination cursor di endpoint daftar: halaman berurutan tanpa duplikat, nextCursor null
+ * di halaman terakhir, dan ?after= tanpa limit tetap dilayani handler pagination
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookCursorPageTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void categoryAndAuthorPagesWalkAllBooksInIdOrder() throws Exception {
+        List<Long> created = createBooks("CursorPage", 5);
+
+        assertEquals(created, walk("/api/books/category/CursorPage", 2));
+        assertEquals(created, walk("/api/books/author/CursorPagePenulis", 2));
+    }
+
+    @Test
+    void statusAndLowStockPagesMatchUnpagedLists() throws Exception {
+        bookService.createBook(book("Kursor Kosong", "CursorPageStatus", 0, 50000.0));
+
+        List<Long> borrowed = bookService.getBooksByStatus(Book.BookStatus.BORROWED).stream()
+                .map(BookSummary::id)
+                .sorted()
+                .toList();
+        assertEquals(borrowed, walk("/api/books/status/BORROWED", 500));
+
+        List<Long> lowStock = bookService.getBooksWithLowStock().stream().map(BookSummary::id).toList();
+        assertEquals(lowStock, walk("/api/books/low-stock", 500));
+    }
+
+    @Test
+    void afterWithoutLimitUsesDefaultLimit() throws Exception {
+        List<Long> created = createBooks("CursorPageAfter", 3);
+
+        JsonNode first = page("/api/books/category/CursorPageAfter?limit=1");
+        assertEquals(created.subList(0, 1), ids(first));
+        JsonNode rest = page("/api/books/category/CursorPageAfter?after=" + first.get("nextCursor").asText());
+        assertEquals(created.subList(1, 3), ids(rest));
+        assertTrue(rest.get("nextCursor").isNull());
+
+        assertEquals(ids(page("/api/books?limit=" + PageCursor.DEFAULT_LIMIT)),
+                ids(page("/api/books?after=" + PageCursor.encode(0L))));
+
+        assertEquals(created, ids(page("/api/books/author/CursorPageAfterPenulis?after=" + PageCursor.encode(0L))));
+        assertTrue(page("/api/books/status/AVAILABLE?after=" + PageCursor.encode(0L)).has("items"));
+        assertTrue(page("/api/books/low-stock?after=" + PageCursor.encode(Integer.MIN_VALUE, 0L)).has("items"));
+    }
+
+    @Test
+    void invalidCursorOrLimitIsRejected() throws Exception {
+        mockMvc.perform(get("/api/books").param("after", "bukan-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/books").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/books/low-stock").param("after", PageCursor.encode(1L)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> createBooks(String category, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BookRequest request = book("Kursor " + i, category);
+            request.setAuthor(category + "Penulis");
+            ids.add(bookService.createBook(request).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Mengikuti nextCursor sampai halaman terakhir dan mengumpulkan ID dari semua halaman
+     */
+    private List<Long> walk(String path, int limit) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = page(path + "?limit=" + limit + (cursor == null ? "" : "&after=" + cursor));
+            assertTrue(page.get("size").asInt() <= limit);
+            ids.addAll(ids(page));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode page(String uri) throws Exception {
+        String body = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.testuas.controller;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.service.BookService;
+
+/**
+ * Memastikan conditional GET (ETag / If-None-Match) pada endpoint daftar dan detail buku
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void listETagChangesOnlyAfterWrite() throws Exception {
+        String etag = mockMvc.perform(get("/api/books"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/books").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        bookService.createBook(book("ETag Katalog", "Testing"));
+
+        String newEtag = mockMvc.perform(get("/api/books").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void singleBookETagFollowsUpdatedAt() throws Exception {
+        BookResponse book = bookService.createBook(book("ETag Buku", "Testing"));
+
+        String etag = mockMvc.perform(get("/api/books/{id}", book.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Thread.sleep(5);
+        bookService.addStock(book.getId(), 1);
+
+        mockMvc.perform(get("/api/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void singleBookETagDependsOnRepresentation() throws Exception {
+        BookResponse book = bookService.createBook(book("ETag Buku Format", "Testing"));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/books/{id}", book.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        String json = response.getHeader(HttpHeaders.ETAG);
+        // Vary bisa berisi nilai lain (misalnya Origin dari CORS), cukup pastikan Accept ikut
+        assertTrue(response.getHeaders(HttpHeaders.VARY).toString().contains(HttpHeaders.ACCEPT));
+        String cbor = mockMvc.perform(get("/api/books/{id}", book.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(json, cbor);
+
+        mockMvc.perform(get("/api/books/{id}", book.getId()).accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        MockHttpServletResponse notModified = mockMvc.perform(get("/api/books/{id}", book.getId())
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse();
+        assertTrue(notModified.getHeaders(HttpHeaders.VARY).toString().contains(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void listETagDependsOnRepresentation() throws Exception {
+        String json = mockMvc.perform(get("/api/books/statistics").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cbor = mockMvc.perform(get("/api/books/statistics").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String fields = mockMvc.perform(get("/api/books").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String full = mockMvc.perform(get("/api/books"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // ETag lemah: body yang sama boleh dikirim gzip maupun identity
+        assertTrue(json.startsWith("W/"));
+        assertNotEquals(json, cbor);
+        assertNotEquals(fields, full);
+
+        mockMvc.perform(get("/api/books/statistics").accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/books/statistics").accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+    }
+
+    @Test
+    void errorResponsesCarryNoETag() throws Exception {
+        String etag = mockMvc.perform(get("/api/books").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNull(etag);
+    }
+}
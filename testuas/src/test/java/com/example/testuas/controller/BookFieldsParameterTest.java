@@ -0,0 +1,100 @@
+package com.example.testuas.controller;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.testuas.service.BookService;
+import com.example.testuas.service.PageCursor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ?fields= hanya diterima endpoint yang mendukung sparse fieldset (termasuk halaman cursor),
+ * selain itu 400 Bad Request
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookFieldsParameterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void fieldsAreAppliedWhereSupported() throws Exception {
+        mockMvc.perform(get("/api/books").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").exists())
+                .andExpect(jsonPath("$[0].author").doesNotExist());
+        mockMvc.perform(get("/api/books/search").param("keyword", "a").param("fields", "id"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void fieldsAreCombinedWithCursorPages() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            bookService.createBook(book("Kursor Field " + i, "FieldsPage"));
+        }
+
+        JsonNode first = page(get("/api/books/category/FieldsPage").param("fields", "title").param("limit", "2"));
+        assertEquals(2, first.get("items").size());
+        assertEquals("Kursor Field 1", first.get("items").get(0).get("title").asText());
+        assertEquals(1, first.get("items").get(0).size());
+        JsonNode rest = page(get("/api/books/category/FieldsPage").param("fields", "title")
+                .param("after", first.get("nextCursor").asText()));
+        assertEquals(List.of("Kursor Field 3"), rest.get("items").findValuesAsText("title"));
+        assertTrue(rest.get("nextCursor").isNull());
+
+        mockMvc.perform(get("/api/books").param("fields", "id,title").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").exists())
+                .andExpect(jsonPath("$.items[0].author").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists());
+        mockMvc.perform(get("/api/books/status/AVAILABLE").param("fields", "title").param("after", PageCursor.encode(0L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").doesNotExist());
+        mockMvc.perform(get("/api/books/low-stock").param("fields", "price").param("limit", "10"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/books").param("fields", "bukanField").param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void fieldsOnUnsupportedEndpointsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/books/title/Clean").param("fields", "id"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/books/author/Martin").param("fields", "id"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/books/filter").param("fields", "id"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/books/price-range").param("min", "0").param("max", "100").param("fields", "id"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/books/year-range").param("fields", "id"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.testuas.index;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.service.BookService;
+
+/**
+ * Perubahan yang di-commit selama rebuild berjalan diterapkan tepat sekali,
+ * bukan sekali oleh commit dan sekali lagi oleh stream rebuild
+ */
+@SpringBootTest
+class BookIndexRebuildTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @Autowired
+    private CatalogStatisticsReconciler catalogStatisticsReconciler;
+
+    @Autowired
+    private BookRangeIndex bookRangeIndex;
+
+    @Autowired
+    private RebuildGate rebuildGate;
+
+    @Test
+    void writesDuringRebuildAreAppliedOnce() throws Exception {
+        BookResponse existing = bookService.createBook(book("Rebuild Race", "RebuildRace", 3, 41_111.5));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Rebuild berhenti di baris pertama stream sampai gate dibuka
+            rebuildGate.arm();
+            Future<?> rebuild = executor.submit(bookIndexMaintainer::rebuild);
+            assertTrue(rebuildGate.awaitBlocked());
+
+            Future<BookResponse> writes = executor.submit(() -> {
+                bookService.updateBook(existing.getId(), book("Rebuild Race Revisi", "RebuildRace", 7, 42_222.5));
+                bookService.reduceStock(existing.getId(), 2);
+                return bookService.createBook(book("Rebuild Race Baru", "RebuildRace", 4, 43_333.5));
+            });
+            Thread.sleep(200);
+            assertFalse(writes.isDone());
+
+            rebuildGate.release();
+            rebuild.get(30, TimeUnit.SECONDS);
+            BookResponse created = writes.get(30, TimeUnit.SECONDS);
+
+            assertTrue(catalogStatisticsReconciler.reconcile().isConsistent());
+            assertEquals(List.of(), priceIds(41_111.5));
+            assertEquals(List.of(existing.getId()), priceIds(42_222.5));
+            assertEquals(List.of(created.getId()), priceIds(43_333.5));
+            assertEquals(List.of(existing.getId(), created.getId()),
+                    bookService.searchBooks("rebuildrace").stream().map(BookSummary::id).toList());
+        } finally {
+            rebuildGate.release();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> priceIds(double price) {
+        return Arrays.stream(bookRangeIndex.range(BookRangeIndex.Field.PRICE, price, price, false, null, 0L, 10).ids())
+                .boxed()
+                .toList();
+    }
+
+    @TestConfiguration
+    static class RebuildGateConfig {
+
+        @Bean
+        RebuildGate rebuildGate() {
+            return new RebuildGate();
+        }
+    }
+
+    /**
+     * Index uji yang menahan panggilan apply pertama setelah arm()
+     */
+    static class RebuildGate implements BookIndex {
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean armed = false;
+
+        void arm() {
+            armed = true;
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(30, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void apply(BookSnapshot before, BookSnapshot after) {
+            if (!armed) {
+                return;
+            }
+            armed = false;
+            blocked.countDown();
+            try {
+                released.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.testuas.index;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.StatisticsDriftReport;
+import com.example.testuas.entity.Book;
+import com.example.testuas.service.BookService;
+
+/**
+ * Delta CatalogStatistics untuk setiap operasi tulis harus sama dengan agregat GROUP BY di database,
+ * dan drift yang disengaja harus muncul di laporan rekonsiliasi
+ */
+@SpringBootTest
+class CatalogStatisticsTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CatalogStatistics catalogStatistics;
+
+    @Autowired
+    private CatalogStatisticsReconciler catalogStatisticsReconciler;
+
+    @Test
+    void writesApplyDeltasThatMatchDatabase() {
+        Counters baseline = counters();
+
+        Long id = bookService.createBook(book("Statistik Delta", "CatalogStatistics", 3, 10_000.0)).getId();
+        assertDelta(baseline, new Counters(1, 3, 30_000.0, 1, 0));
+
+        bookService.updateBook(id, book("Statistik Delta Revisi", "CatalogStatistics", 5, 20_000.0));
+        assertDelta(baseline, new Counters(1, 5, 100_000.0, 1, 0));
+
+        bookService.reduceStock(id, 5);
+        assertDelta(baseline, new Counters(1, 0, 0.0, 0, 1));
+
+        bookService.addStock(id, 2);
+        assertDelta(baseline, new Counters(1, 2, 40_000.0, 1, 0));
+
+        bookService.deleteBook(id);
+        assertDelta(baseline, new Counters(0, 0, 0.0, 0, 0));
+    }
+
+    @Test
+    void forcedDriftIsReported() {
+        BookSnapshot phantom = new BookSnapshot(-1L, "Buku Hantu", "Penulis Uji", null, null,
+                "CatalogStatistics", 4, 25_000.0, Book.BookStatus.AVAILABLE);
+        catalogStatistics.apply(null, phantom);
+        try {
+            StatisticsDriftReport report = catalogStatisticsReconciler.reconcile();
+
+            assertFalse(report.isConsistent());
+            List<String> differences = report.getDifferences();
+            assertTrue(differences.stream().anyMatch(d -> d.startsWith("totalBooks:")), differences::toString);
+            assertTrue(differences.stream().anyMatch(d -> d.startsWith("totalStock:")), differences::toString);
+            assertTrue(differences.stream().anyMatch(d -> d.startsWith("AVAILABLE:")), differences::toString);
+            assertTrue(differences.stream().anyMatch(d -> d.startsWith("inventoryValue:")), differences::toString);
+            assertSame(report, bookService.getLastStatisticsDrift());
+        } finally {
+            catalogStatistics.apply(phantom, null);
+        }
+
+        assertTrue(catalogStatisticsReconciler.reconcile().isConsistent());
+    }
+
+    private void assertDelta(Counters baseline, Counters expected) {
+        Counters now = counters();
+        assertEquals(expected.books(), now.books() - baseline.books());
+        assertEquals(expected.stock(), now.stock() - baseline.stock());
+        assertEquals(expected.value(), now.value() - baseline.value(), 0.001);
+        assertEquals(expected.available(), now.available() - baseline.available());
+        assertEquals(expected.borrowed(), now.borrowed() - baseline.borrowed());
+
+        StatisticsDriftReport report = catalogStatisticsReconciler.reconcile();
+        assertTrue(report.isConsistent(), () -> report.getDifferences().toString());
+    }
+
+    private Counters counters() {
+        return new Counters(catalogStatistics.getTotalBooks(), catalogStatistics.getTotalStock(),
+                catalogStatistics.getInventoryValue(), catalogStatistics.getCount(Book.BookStatus.AVAILABLE),
+                catalogStatistics.getCount(Book.BookStatus.BORROWED));
+    }
+
+    private record Counters(long books, long stock, double value, long available, long borrowed) {
+    }
+}
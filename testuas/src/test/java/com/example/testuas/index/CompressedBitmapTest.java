@@ -0,0 +1,108 @@
+package com.example.testuas.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Membandingkan CompressedBitmap dengan java.util.BitSet, termasuk perpindahan container array <-> bitmap
+ */
+class CompressedBitmapTest {
+
+    private static final int RANGE = 300_000;
+
+    @Test
+    void matchesBitSetForMixedDensities() {
+        SplittableRandom random = new SplittableRandom(7);
+        BitSet[] expected = new BitSet[3];
+        CompressedBitmap[] bitmaps = new CompressedBitmap[3];
+        double[] densities = {0.01, 0.3, 0.9};
+        for (int b = 0; b < 3; b++) {
+            expected[b] = new BitSet();
+            bitmaps[b] = new CompressedBitmap();
+            for (int i = 0; i < RANGE; i++) {
+                if (random.nextDouble() < densities[b]) {
+                    expected[b].set(i);
+                    bitmaps[b].add(i);
+                }
+            }
+            // Hapus sebagian agar container bitmap juga kembali menjadi array
+            for (int i = 0; i < RANGE; i += 2) {
+                if (random.nextDouble() < 0.8) {
+                    expected[b].clear(i);
+                    bitmaps[b].remove(i);
+                }
+            }
+            assertArrayEquals(expected[b].stream().toArray(), bitmaps[b].toArray());
+        }
+
+        for (int a = 0; a < 3; a++) {
+            for (int b = 0; b < 3; b++) {
+                BitSet and = (BitSet) expected[a].clone();
+                and.and(expected[b]);
+                BitSet or = (BitSet) expected[a].clone();
+                or.or(expected[b]);
+                BitSet andNot = (BitSet) expected[a].clone();
+                andNot.andNot(expected[b]);
+
+                assertArrayEquals(and.stream().toArray(), bitmaps[a].and(bitmaps[b]).toArray());
+                assertArrayEquals(or.stream().toArray(), bitmaps[a].or(bitmaps[b]).toArray());
+                assertArrayEquals(andNot.stream().toArray(), bitmaps[a].andNot(bitmaps[b]).toArray());
+            }
+        }
+
+        BitSet union = (BitSet) expected[0].clone();
+        union.or(expected[1]);
+        union.or(expected[2]);
+        CompressedBitmap merged = CompressedBitmap.union(List.of(bitmaps[0], bitmaps[1], bitmaps[2]));
+        assertEquals(union.cardinality(), merged.cardinality());
+        assertArrayEquals(union.stream().toArray(), merged.toArray());
+    }
+
+    @Test
+    void unionAccumulatesWithoutChangingOperands() {
+        SplittableRandom random = new SplittableRandom(11);
+        BitSet expected = new BitSet();
+        List<CompressedBitmap> bitmaps = new ArrayList<>();
+        List<int[]> before = new ArrayList<>();
+        // Banyak bitmap jarang yang saling tumpang tindih: merge array berulang, lalu naik menjadi container bitmap
+        for (int b = 0; b < 40; b++) {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            int count = b == 20 ? 10_000 : 300;
+            for (int n = 0; n < count; n++) {
+                int value = random.nextInt(140_000);
+                expected.set(value);
+                bitmap.add(value);
+            }
+            bitmaps.add(bitmap);
+            before.add(bitmap.toArray());
+        }
+
+        CompressedBitmap merged = CompressedBitmap.union(bitmaps);
+
+        assertEquals(expected.cardinality(), merged.cardinality());
+        assertArrayEquals(expected.stream().toArray(), merged.toArray());
+        for (int b = 0; b < bitmaps.size(); b++) {
+            assertArrayEquals(before.get(b), bitmaps.get(b).toArray());
+        }
+    }
+
+    @Test
+    void pagesAfterCursor() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : new int[] {3, 70_000, 70_001, 140_000, 5}) {
+            bitmap.add(value);
+        }
+
+        assertArrayEquals(new int[] {3, 5}, bitmap.page(0, 2));
+        assertArrayEquals(new int[] {70_000, 70_001, 140_000}, bitmap.page(5, 10));
+        assertArrayEquals(new int[] {140_000}, bitmap.page(70_001, 10));
+        assertArrayEquals(new int[0], bitmap.page(140_000, 10));
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.testuas.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.testuas.entity.Book;
+import com.example.testuas.service.CatalogGenerator;
+
+/**
+ * Regresi query plan: setiap method BookRepository dijalankan EXPLAIN di H2 pada 1 juta buku
+ * dan gagal bila plan-nya jatuh ke table scan.
+ *
+ * SQL diambil dari Hibernate lewat StatementInspector, lalu eksekusinya dibatalkan agar hasil
+ * (misalnya findAll 1 juta entitas) tidak dimuat ke heap. Method baru di BookRepository
+ * wajib ditambahkan ke daftar di bawah, jika tidak test akan gagal.
+ *
+ * mvn test -Plarge-tests -Dtest=BookRepositoryQueryPlanTest
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./target/h2/explain-test",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.example.testuas.repository.BookRepositoryQueryPlanTest$SqlCapture"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("large")
+class BookRepositoryQueryPlanTest {
+
+    private static final int BOOKS = 1_000_000;
+
+    /**
+     * Method yang memang membaca seluruh tabel, beserta alasannya
+     */
+    private static final Map<String, String> TABLE_SCAN_ALLOWED = Map.ofEntries(
+            Map.entry("findAll", "membaca seluruh katalog"),
+            Map.entry("findAllSummaries", "membaca seluruh katalog"),
+            Map.entry("streamAllOrderById", "ekspor/rebuild index seluruh katalog (urut primary key)"),
+            Map.entry("getTotalStockQuantity", "agregat seluruh katalog, dilayani CatalogStatistics"),
+            Map.entry("getTotalInventoryValue", "agregat seluruh katalog, dilayani CatalogStatistics"),
+            Map.entry("summarizeByStatus", "agregat seluruh katalog, dilayani CatalogStatistics"),
+            Map.entry("findByTitleContainingIgnoreCase", "LIKE '%x%' tidak bisa memakai B-tree, dilayani TrigramIndex"),
+            Map.entry("findByAuthorContainingIgnoreCase", "LIKE '%x%' tidak bisa memakai B-tree, dilayani TrigramIndex"),
+            Map.entry("findByTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase",
+                    "LIKE '%x%' tidak bisa memakai B-tree, dilayani TrigramIndex"),
+            Map.entry("findSummariesByAuthorAfter",
+                    "LIKE '%x%', berhenti setelah limit baris karena urut primary key"),
+            Map.entry("searchByKeyword", "LIKE '%x%' tidak bisa memakai B-tree, dilayani KeywordIndex"),
+            Map.entry("searchSummariesByKeyword", "LIKE '%x%' tidak bisa memakai B-tree, dilayani KeywordIndex"));
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        catalogGenerator.generate(42, BOOKS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void everyFinderHasPlanCase() {
+        Set<String> declared = Arrays.stream(BookRepository.class.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic() && !method.isDefault())
+                .map(Method::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        assertEquals(declared, new TreeSet<>(declaredCases().keySet()),
+                "Setiap method BookRepository harus punya kasus EXPLAIN");
+    }
+
+    @Test
+    void findersUseIndexes() {
+        List<String> failures = new ArrayList<>();
+        Map<String, Function<BookRepository, Object>> cases = new LinkedHashMap<>(declaredCases());
+        cases.put("findAll", BookRepository::findAll);
+        cases.put("findById", repository -> repository.findById(1L));
+
+        cases.forEach((name, call) -> {
+            String sql = captureSql(call);
+            assertNotNull(sql, "SQL tidak tertangkap untuk " + name);
+            String plan = explain(sql);
+            boolean tableScan = plan.contains(".tableScan");
+            if (tableScan && !TABLE_SCAN_ALLOWED.containsKey(name)) {
+                failures.add(name + ":\n" + plan);
+            }
+        });
+
+        assertTrue(failures.isEmpty(), "Query dengan table scan:\n" + String.join("\n\n", failures));
+    }
+
+    /**
+     * Contoh pemanggilan untuk setiap method yang dideklarasikan di BookRepository
+     */
+    private Map<String, Function<BookRepository, Object>> declaredCases() {
+        Map<String, Function<BookRepository, Object>> cases = new LinkedHashMap<>();
+        cases.put("findByTitleContainingIgnoreCase", r -> r.findByTitleContainingIgnoreCase("cahaya"));
+        cases.put("findByAuthorContainingIgnoreCase", r -> r.findByAuthorContainingIgnoreCase("pratama"));
+        cases.put("findByIsbn", r -> r.findByIsbn("9786020000016"));
+        cases.put("findByCategoryIgnoreCase", r -> r.findByCategoryIgnoreCase("fiksi"));
+        cases.put("findByPublicationYear", r -> r.findByPublicationYear(2010));
+        cases.put("findByStatus", r -> r.findByStatus(Book.BookStatus.BORROWED));
+        cases.put("findByStockQuantityGreaterThan", r -> r.findByStockQuantityGreaterThan(400));
+        cases.put("findByPriceBetween", r -> r.findByPriceBetween(100000.0, 101000.0));
+        cases.put("findByTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase",
+                r -> r.findByTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase("cahaya", "pratama"));
+        cases.put("searchByKeyword", r -> r.searchByKeyword("sejarah"));
+        cases.put("getTotalStockQuantity", BookRepository::getTotalStockQuantity);
+        cases.put("countByStatus", r -> r.countByStatus(Book.BookStatus.BORROWED));
+        cases.put("getTotalInventoryValue", BookRepository::getTotalInventoryValue);
+        cases.put("summarizeByStatus", BookRepository::summarizeByStatus);
+        cases.put("findBooksWithLowStock", BookRepository::findBooksWithLowStock);
+        cases.put("findRecentBooks", r -> r.findRecentBooks(2024));
+        cases.put("findSummariesAfter", r -> r.findSummariesAfter(500_000L, Limit.of(20)));
+        cases.put("findSummariesByCategoryAfter",
+                r -> r.findSummariesByCategoryAfter("fiksi", 500_000L, Limit.of(20)));
+        cases.put("findSummariesByStatusAfter",
+                r -> r.findSummariesByStatusAfter(Book.BookStatus.BORROWED, 500_000L, Limit.of(20)));
+        cases.put("findSummariesByAuthorAfter",
+                r -> r.findSummariesByAuthorAfter("pratama", 500_000L, Limit.of(20)));
+        cases.put("findLowStockSummariesAfter", r -> r.findLowStockSummariesAfter(2, 500_000L, Limit.of(20)));
+        cases.put("streamAllOrderById", BookRepository::streamAllOrderById);
+        cases.put("findAllSummaries", BookRepository::findAllSummaries);
+        cases.put("findSummariesByIdIn", r -> r.findSummariesByIdIn(List.of(1L, 2L, 3L)));
+        cases.put("findSummariesByCategory", r -> r.findSummariesByCategory("fiksi"));
+        cases.put("findSummariesByStatus", r -> r.findSummariesByStatus(Book.BookStatus.BORROWED));
+        cases.put("findLowStockSummaries", BookRepository::findLowStockSummaries);
+        cases.put("searchSummariesByKeyword", r -> r.searchSummariesByKeyword("sejarah"));
+        return cases;
+    }
+
+    /**
+     * Memanggil method repository dan mengambil SQL SELECT pertama yang disiapkan Hibernate
+     * Eksekusi dibatalkan oleh SqlCapture sebelum statement dijalankan.
+     */
+    private String captureSql(Function<BookRepository, Object> call) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        SqlCapture.arm();
+        try {
+            transaction.executeWithoutResult(status -> call.apply(bookRepository));
+        } catch (RuntimeException expected) {
+            // dibatalkan oleh SqlCapture
+        } finally {
+            SqlCapture.disarm();
+        }
+        return SqlCapture.captured();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> 1;
+            case Types.DOUBLE, Types.FLOAT, Types.REAL, Types.DECIMAL, Types.NUMERIC -> 1.0;
+            case Types.TIMESTAMP -> Timestamp.valueOf(LocalDateTime.now());
+            default -> "AVAILABLE";
+        };
+    }
+
+    /**
+     * StatementInspector yang menyimpan SQL SELECT pertama lalu membatalkan eksekusinya
+     * Hanya aktif di thread yang memanggil arm(), sehingga query lain tidak terpengaruh.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<Boolean> ARMED = ThreadLocal.withInitial(() -> false);
+        private static final ThreadLocal<String> CAPTURED = new ThreadLocal<>();
+
+        static void arm() {
+            CAPTURED.remove();
+            ARMED.set(true);
+        }
+
+        static void disarm() {
+            ARMED.set(false);
+        }
+
+        static String captured() {
+            return CAPTURED.get();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (ARMED.get() && sql.regionMatches(true, 0, "select", 0, 6)) {
+                CAPTURED.set(sql);
+                throw new IllegalStateException("Eksekusi dibatalkan setelah SQL tertangkap");
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import com.example.testuas.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Cache getBookById: hit/miss tercatat, dan setiap operasi tulis meng-evict entri buku setelah commit
+ */
+@SpringBootTest(properties = {"app.cache.facets.maximum-size=7", "app.cache.facets.ttl=1m"})
+class BookCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void readsAreCountedAsMissThenHit() {
+        Long id = bookService.createBook(book("Cache Hit Miss", "BookCache")).getId();
+        CacheStats before = books().stats();
+
+        bookService.getBookById(id);
+        bookService.getBookById(id);
+
+        CacheStats delta = books().stats().minus(before);
+        assertEquals(1, delta.missCount());
+        assertEquals(1, delta.hitCount());
+        assertTrue(cached(id));
+    }
+
+    @Test
+    void writesEvictCachedBook() {
+        assertEvicts(id -> bookService.updateBook(id, book("Cache Update Baru", "BookCache")));
+        assertEvicts(id -> bookService.addStock(id, 2));
+        assertEvicts(id -> bookService.reduceStock(id, 1));
+        assertEvicts(bookService::deleteBook);
+    }
+
+    @Test
+    void facetsCacheHasItsOwnBound() {
+        Cache<Object, Object> facets = nativeCache(CacheConfig.FACETS_CACHE);
+
+        assertEquals(7, facets.policy().eviction().orElseThrow().getMaximum());
+        assertTrue(facets.policy().expireAfterWrite().isPresent());
+        assertEquals(10_000, books().policy().eviction().orElseThrow().getMaximum());
+    }
+
+    private void assertEvicts(Consumer<Long> write) {
+        Long id = bookService.createBook(book("Cache Evict", "BookCache")).getId();
+        bookService.getBookById(id);
+        assertTrue(cached(id));
+
+        write.accept(id);
+
+        assertFalse(cached(id));
+    }
+
+    /**
+     * Dibaca lewat asMap() agar pengecekan tidak ikut menggeser statistik hit/miss
+     */
+    private boolean cached(Long id) {
+        return books().asMap().containsKey(id);
+    }
+
+    private Cache<Object, Object> books() {
+        return nativeCache(CacheConfig.BOOKS_CACHE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+}
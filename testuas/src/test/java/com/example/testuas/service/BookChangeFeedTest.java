@@ -0,0 +1,114 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.testuas.dto.BookChangeEvent;
+import com.example.testuas.dto.BookChangePage;
+import com.example.testuas.dto.BookResponse;
+
+/**
+ * Change feed mencatat setiap perubahan lewat BookService secara berurutan,
+ * meminta resync jika since sudah di luar retensi ring buffer, dan subscriber SSE
+ * yang lambat tidak menahan pengiriman ke subscriber lain
+ */
+@SpringBootTest(properties = "app.changes.capacity=4")
+class BookChangeFeedTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookChangeFeed bookChangeFeed;
+
+    @Test
+    void recordsWritesInOrder() {
+        long start = bookChangeFeed.since(null, null).getLatestSequence();
+
+        BookResponse created = bookService.createBook(book("Change Feed", "ChangeFeed", 5, 45000.0));
+        bookService.reduceStock(created.getId(), 2);
+        bookService.updateBook(created.getId(), book("Change Feed Revisi", "ChangeFeed", 5, 45000.0));
+        bookService.deleteBook(created.getId());
+
+        BookChangePage page = bookChangeFeed.since(start, 10);
+        assertFalse(page.isResyncRequired());
+        assertFalse(page.isHasMore());
+        assertEquals(List.of(BookChangeEvent.Type.CREATED, BookChangeEvent.Type.STOCK_CHANGED,
+                        BookChangeEvent.Type.UPDATED, BookChangeEvent.Type.DELETED),
+                page.getEvents().stream().map(BookChangeEvent::type).toList());
+        assertEquals(start + 4, page.getLatestSequence());
+        assertEquals(3, page.getEvents().get(1).book().stockQuantity());
+        assertEquals("Change Feed Revisi", page.getEvents().get(2).book().title());
+        assertNull(page.getEvents().get(3).book());
+
+        BookChangePage firstTwo = bookChangeFeed.since(start, 2);
+        assertTrue(firstTwo.isHasMore());
+        assertEquals(start + 2, firstTwo.getLatestSequence());
+    }
+
+    @Test
+    void requiresResyncOutsideRetention() {
+        long start = bookChangeFeed.since(null, null).getLatestSequence();
+        for (int i = 0; i < 5; i++) {
+            bookService.createBook(book("Change Feed " + i, "ChangeFeed"));
+        }
+
+        assertTrue(bookChangeFeed.since(start, 10).isResyncRequired());
+        assertFalse(bookChangeFeed.since(start + 1, 10).isResyncRequired());
+        // Sequence dari proses sebelumnya selalu lebih kecil dari awal proses ini
+        assertTrue(bookChangeFeed.since(0L, 10).isResyncRequired());
+        assertTrue(bookChangeFeed.since(start + 6, 10).isResyncRequired());
+    }
+
+    @Test
+    void slowSubscriberDoesNotBlockOthers() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch slowBlocked = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(2);
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                slowBlocked.countDown();
+                try {
+                    unblock.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        SseEmitter fast = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                fastReceived.countDown();
+            }
+        };
+        try {
+            bookChangeFeed.subscribe(slow, null);
+            bookChangeFeed.subscribe(fast, null);
+
+            bookService.createBook(book("Change Feed Lambat", "ChangeFeed"));
+            assertTrue(slowBlocked.await(5, TimeUnit.SECONDS));
+            bookService.createBook(book("Change Feed Cepat", "ChangeFeed"));
+
+            // Subscriber cepat menerima kedua event walaupun subscriber lambat masih tertahan
+            assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+        } finally {
+            unblock.countDown();
+            slow.complete();
+            fast.complete();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.testuas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Ekspor 1 juta buku dengan heap kecil (-Xmx256m via profile large-tests)
+ * Database memakai mode file agar data tabel tidak ikut memenuhi heap.
+ * 
+ * mvn test -Plarge-tests -Dtest=BookExportServiceTest
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:file:./target/h2/export-test")
+@Tag("large")
+class BookExportServiceTest {
+
+    private static final int BOOKS = 1_000_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookExportService bookExportService;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("DELETE FROM books");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String description = "Deskripsi buku ".repeat(15);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            batch.add(new Object[] {"Judul " + i, "Penulis " + (i % 5000), "Kategori " + (i % 20), description,
+                    i % 30, 100000.0 + i, "AVAILABLE", now, now});
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+    }
+
+    @Test
+    void exportsWholeCatalogAsNdjson() throws Exception {
+        LineCountingOutputStream out = new LineCountingOutputStream();
+        long exported = bookExportService.exportBooks(BookExportService.ExportFormat.NDJSON, out);
+
+        assertEquals(BOOKS, exported);
+        assertEquals(BOOKS, out.lines);
+    }
+
+    @Test
+    void exportsWholeCatalogAsCsv() throws Exception {
+        LineCountingOutputStream out = new LineCountingOutputStream();
+        long exported = bookExportService.exportBooks(BookExportService.ExportFormat.CSV, out);
+
+        assertEquals(BOOKS, exported);
+        assertEquals(BOOKS + 1, out.lines);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO books (title, author, category, description, stock_quantity, price, "
+                + "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    /**
+     * Output stream yang hanya menghitung baris, tanpa menyimpan isinya
+     */
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
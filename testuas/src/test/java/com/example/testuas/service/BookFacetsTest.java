@@ -0,0 +1,65 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookFacets;
+import com.example.testuas.dto.BookRequest;
+
+/**
+ * Facet count per kategori, status, dekade, dan rentang harga, serta cache per filter
+ */
+@SpringBootTest
+class BookFacetsTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void countsFacetsAndInvalidatesCacheOnWrite() {
+        createBook("Zebrafacet Pertama", 1995, 30000.0);
+        createBook("Zebrafacet Kedua", 1999, 150000.0);
+        createBook("Buku Ketiga", 2012, 750000.0);
+
+        BookFacets facets = bookService.getFacets("facettest", null, null);
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of("FacetTest", 3L), facets.getCategories());
+        assertEquals(3L, facets.getStatuses().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(Map.of("1990", 2L, "2010", 1L), facets.getDecades());
+        assertEquals(1L, facets.getPriceRanges().get("0-50000"));
+        assertEquals(1L, facets.getPriceRanges().get("100000-200000"));
+        assertEquals(1L, facets.getPriceRanges().get("500000+"));
+        assertEquals(2, bookService.getFacets("FacetTest", null, "zebrafacet").getTotal());
+
+        assertSame(facets, bookService.getFacets("FACETTEST", null, null));
+
+        createBook("Buku Keempat", 2020, 80000.0);
+        assertEquals(4, bookService.getFacets("facettest", null, null).getTotal());
+    }
+
+    @Test
+    void countsCategoriesCaseInsensitively() {
+        bookService.createBook(book("Facet Ejaan Satu", "FacetEjaan"));
+        bookService.createBook(book("Facet Ejaan Dua", "facetejaan"));
+        bookService.createBook(book("Facet Ejaan Tiga", "FACETEJAAN"));
+
+        BookFacets facets = bookService.getFacets("FacetEjaan", null, null);
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of("FACETEJAAN", 3L), facets.getCategories());
+    }
+
+    private void createBook(String title, int year, double price) {
+        BookRequest request = book(title, "FacetTest", 3, price);
+        request.setPublicationYear(year);
+        bookService.createBook(request);
+    }
+}
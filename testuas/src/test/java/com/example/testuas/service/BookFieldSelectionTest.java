@@ -0,0 +1,90 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookFieldSet;
+import com.example.testuas.dto.BookRequest;
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookFieldQueryRepository;
+
+/**
+ * Memastikan ?fields= hanya mengembalikan field yang diminta dan bentuk query di-cache
+ */
+@SpringBootTest
+class BookFieldSelectionTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookFieldQueryRepository bookFieldQueryRepository;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void returnsOnlyRequestedFieldsInCanonicalOrder() {
+        BookRequest request = book("Sparse Fieldset", "Programming", 7, 120000.0);
+        request.setDescription("Deskripsi panjang yang tidak diminta client");
+        BookResponse created = bookService.createBook(request);
+
+        BookFieldSet fields = BookFieldSet.parse("price, stockQuantity,title,id");
+        Map<String, Object> book = bookService.getBookById(created.getId(), fields);
+
+        assertEquals(List.of("id", "title", "stockQuantity", "price"), List.copyOf(book.keySet()));
+        assertEquals(created.getId(), book.get("id"));
+        assertEquals(7, book.get("stockQuantity"));
+
+        int shapes = bookFieldQueryRepository.cachedQueryCount();
+        bookService.getBookById(created.getId(), BookFieldSet.parse("id,title,stockQuantity,price"));
+        assertEquals(shapes, bookFieldQueryRepository.cachedQueryCount());
+
+        List<Map<String, Object>> byCategory = bookService.getBooksByCategory("programming", fields);
+        assertFalse(byCategory.isEmpty());
+        assertFalse(byCategory.get(0).containsKey("description"));
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThrows(IllegalArgumentException.class, () -> BookFieldSet.parse("id,stock"));
+        assertThrows(IllegalArgumentException.class, () -> BookFieldSet.parse(" "));
+    }
+
+    @Test
+    void keywordSearchWithFieldsFetchesLargeResultsInChunks() {
+        catalogGenerator.generate(42, 20_000);
+        bookIndexMaintainer.rebuild();
+
+        List<Long> expected = bookService.searchBooks("fiction").stream().map(BookSummary::id).toList();
+        assertTrue(expected.size() > 1000);
+
+        List<Map<String, Object>> rows = bookService.searchBooks("fiction", BookFieldSet.parse("title"));
+        assertEquals(expected.size(), rows.size());
+        assertEquals(List.of("title"), List.copyOf(rows.get(0).keySet()));
+        assertEquals(expected, bookService.searchBooks("fiction", BookFieldSet.parse("id")).stream()
+                .map(row -> (Long) row.get("id"))
+                .toList());
+    }
+}
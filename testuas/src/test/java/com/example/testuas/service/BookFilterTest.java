@@ -0,0 +1,108 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookFilter;
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.dto.CursorPage;
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookFilterRepository;
+
+/**
+ * Filter gabungan lewat BookBitmapIndex harus sama dengan query JPQL (fallback) untuk filter yang sama
+ */
+@SpringBootTest
+class BookFilterTest {
+
+    private static final int BOOKS = 20_000;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookFilterRepository bookFilterRepository;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void bitmapIndexMatchesDatabaseQuery() {
+        catalogGenerator.generate(42, BOOKS);
+        bookIndexMaintainer.rebuild();
+
+        BookFilter lowStockFiction = new BookFilter();
+        lowStockFiction.setStatus(List.of(Book.BookStatus.AVAILABLE, Book.BookStatus.BORROWED));
+        lowStockFiction.setCategory(List.of("fiction", "HISTORY"));
+        lowStockFiction.setMaxStock(5);
+        lowStockFiction.setYearFrom(1990);
+
+        BookFilter excludeAndPrice = new BookFilter();
+        excludeAndPrice.setExcludeCategory(List.of("Programming"));
+        excludeAndPrice.setExcludeStatus(List.of(Book.BookStatus.BORROWED));
+        excludeAndPrice.setMinPrice(80_000.0);
+        excludeAndPrice.setMaxPrice(150_000.0);
+        excludeAndPrice.setYearTo(2020);
+
+        for (BookFilter filter : List.of(lowStockFiction, excludeAndPrice, new BookFilter())) {
+            List<Long> expected = bookFilterRepository.findSummaries(filter, 0, BOOKS).stream()
+                    .map(BookSummary::id)
+                    .toList();
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, allPages(filter));
+        }
+    }
+
+    @Test
+    void reflectsWritesThroughBookService() {
+        BookFilter filter = new BookFilter();
+        filter.setCategory(List.of("BitmapFilter"));
+        filter.setMaxStock(0);
+
+        BookResponse created = bookService.createBook(book("Bitmap Filter", "BitmapFilter", 2, 50000.0));
+        assertEquals(List.of(), allPages(filter));
+
+        bookService.reduceStock(created.getId(), 2);
+        assertEquals(List.of(created.getId()), allPages(filter));
+    }
+
+    @Test
+    void rejectsInvertedRange() {
+        BookFilter filter = new BookFilter();
+        filter.setYearFrom(2020);
+        filter.setYearTo(2000);
+
+        assertThrows(IllegalArgumentException.class, () -> bookService.filterBooks(filter, null, 10));
+    }
+
+    private List<Long> allPages(BookFilter filter) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookSummary> page = bookService.filterBooks(filter, cursor, 1000);
+            page.getItems().forEach(book -> ids.add(book.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.example.testuas.dto.BookRequest;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.dto.ImportReport;
+import com.example.testuas.repository.BookBulkRepository;
+import com.example.testuas.service.BookImportService.ImportFormat;
+
+/**
+ * Bulk import: elemen JSON yang bukan objek dan ISBN duplikat ditolak per baris,
+ * batch yang gagal di database dicatat sebagai ditolak tanpa menghentikan import
+ */
+@SpringBootTest(properties = "app.import.batch-size=2")
+class BookImportTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookChangeFeed bookChangeFeed;
+
+    @MockitoSpyBean
+    private BookBulkRepository bookBulkRepository;
+
+    @Test
+    void rejectsNonObjectElementsAndDuplicateIsbns() throws IOException {
+        String isbn = randomIsbn();
+        String json = """
+                [
+                  {"title": "Import JSON Satu", "author": "Penulis Import", "isbn": "%s", "category": "ImportJson"},
+                  42,
+                  "bukan buku",
+                  [1, 2],
+                  null,
+                  {"author": "Tanpa Judul", "category": "ImportJson"},
+                  {"title": "Import JSON Duplikat", "author": "Penulis Import", "isbn": "%s", "category": "ImportJson"},
+                  {"title": "Import JSON Dua", "author": "Penulis Import", "category": "ImportJson"}
+                ]
+                """.formatted(isbn, isbn);
+
+        ImportReport report = importBooks(ImportFormat.JSON, json);
+
+        assertEquals(2, report.getImported());
+        assertEquals(6, report.getRejected());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), rejectedRows(report));
+        assertTrue(report.getRejectedRows().get(5).getReason().startsWith("ISBN sudah terdaftar"));
+        assertEquals(List.of("Import JSON Satu", "Import JSON Dua"), titles("ImportJson"));
+    }
+
+    @Test
+    void rejectsIsbnAlreadyInDatabase() throws IOException {
+        BookRequest existing = book("Import Sudah Ada", "ImportCsv");
+        existing.setIsbn(randomIsbn());
+        bookService.createBook(existing);
+
+        String csv = "title,author,isbn,category\n"
+                + "Import CSV Duplikat,Penulis Import," + existing.getIsbn() + ",ImportCsv\n"
+                + "Import CSV Baru,Penulis Import," + randomIsbn() + ",ImportCsv\n";
+        ImportReport report = importBooks(ImportFormat.CSV, csv);
+
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(1L), rejectedRows(report));
+        assertTrue(titles("ImportCsv").contains("Import CSV Baru"));
+    }
+
+    @Test
+    void failedBatchIsReportedAndImportContinues() throws IOException {
+        BookRequest existing = book("Import Bentrok", "ImportBatch");
+        existing.setIsbn(randomIsbn());
+        bookService.createBook(existing);
+        // Set ISBN kosong mensimulasikan buku yang dimasukkan proses lain setelah import dimulai
+        doReturn(new HashSet<String>()).when(bookBulkRepository).findAllIsbns();
+        long sequence = bookChangeFeed.since(null, null).getLatestSequence();
+
+        String csv = "title,author,isbn,category\n"
+                + "Import Batch Gagal,Penulis Import," + randomIsbn() + ",ImportBatch\n"
+                + "Import Batch Bentrok,Penulis Import," + existing.getIsbn() + ",ImportBatch\n"
+                + "Import Batch Satu,Penulis Import," + randomIsbn() + ",ImportBatch\n"
+                + "Import Batch Dua,Penulis Import,,ImportBatch\n";
+        ImportReport report = importBooks(ImportFormat.CSV, csv);
+
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(1L, 2L), rejectedRows(report));
+        assertTrue(report.getRejectedRows().get(0).getReason().startsWith("Batch gagal disimpan"));
+        assertEquals(List.of("Import Bentrok", "Import Batch Satu", "Import Batch Dua"), titles("ImportBatch"));
+
+        // Satu batch yang berhasil dilaporkan ke change feed sebagai resync, bukan event per baris
+        assertTrue(bookChangeFeed.since(sequence, null).isResyncRequired());
+    }
+
+    private ImportReport importBooks(ImportFormat format, String content) throws IOException {
+        return bookImportService.importBooks(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<String> titles(String category) {
+        return bookService.getBooksByCategory(category).stream().map(BookSummary::title).toList();
+    }
+
+    private static List<Long> rejectedRows(ImportReport report) {
+        return report.getRejectedRows().stream().map(ImportReport.RejectedRow::getRow).toList();
+    }
+
+    private static String randomIsbn() {
+        return Long.toString(ThreadLocalRandom.current().nextLong(9_790_000_000_000L, 9_799_999_999_999L));
+    }
+}
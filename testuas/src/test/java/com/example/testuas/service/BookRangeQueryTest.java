@@ -0,0 +1,110 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.dto.CursorPage;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.index.BookRangeIndex;
+import com.example.testuas.repository.BookRangeRepository;
+
+/**
+ * Range harga dan tahun lewat BookRangeIndex harus sama (isi dan urutan) dengan query JPQL keyset (fallback)
+ */
+@SpringBootTest
+class BookRangeQueryTest {
+
+    private static final int BOOKS = 20_000;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRangeRepository bookRangeRepository;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void rangeIndexMatchesDatabaseQuery() {
+        catalogGenerator.generate(42, BOOKS);
+        bookIndexMaintainer.rebuild();
+
+        for (boolean descending : new boolean[] {false, true}) {
+            String sort = descending ? "desc" : "asc";
+
+            List<Long> expectedPrices = ids(bookRangeRepository.findSummaries(BookRangeIndex.Field.PRICE,
+                    80_000.0, 150_000.0, descending, null, 0L, BOOKS));
+            assertFalse(expectedPrices.isEmpty());
+            assertEquals(expectedPrices, allPages(cursor -> bookService.getBooksByPriceRange(
+                    80_000.0, 150_000.0, sort, cursor, 37)));
+
+            List<Long> expectedYears = ids(bookRangeRepository.findSummaries(BookRangeIndex.Field.PUBLICATION_YEAR,
+                    1990, 2005, descending, null, 0L, BOOKS));
+            assertFalse(expectedYears.isEmpty());
+            assertEquals(expectedYears, allPages(cursor -> bookService.getBooksByYearRange(
+                    1990, 2005, sort, cursor, 1000)));
+        }
+    }
+
+    @Test
+    void reflectsWritesThroughBookService() {
+        BookResponse created = bookService.createBook(book("Range Index", "RangeIndex", 3, 1_234_567.5));
+        assertEquals(List.of(created.getId()), priceRangeIds(1_234_567.5));
+
+        bookService.updateBook(created.getId(), book("Range Index", "RangeIndex", 3, 1_234_568.5));
+        assertEquals(List.of(), priceRangeIds(1_234_567.5));
+        assertEquals(List.of(created.getId()), priceRangeIds(1_234_568.5));
+
+        bookService.deleteBook(created.getId());
+        assertEquals(List.of(), priceRangeIds(1_234_568.5));
+    }
+
+    @Test
+    void rejectsInvertedRangeAndUnknownSort() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bookService.getBooksByYearRange(2020, 2000, "asc", null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> bookService.getBooksByPriceRange(null, null, "random", null, 10));
+    }
+
+    private List<Long> priceRangeIds(double price) {
+        return ids(bookService.getBooksByPriceRange(price, price, "asc", null, 10).getItems());
+    }
+
+    private static List<Long> allPages(Function<String, CursorPage<BookSummary>> fetch) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookSummary> page = fetch.apply(cursor);
+            page.getItems().forEach(book -> ids.add(book.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<Long> ids(List<BookSummary> books) {
+        return books.stream().map(BookSummary::id).toList();
+    }
+}
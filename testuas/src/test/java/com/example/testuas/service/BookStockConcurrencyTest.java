@@ -0,0 +1,131 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.entity.Book;
+
+/**
+ * Memastikan add-stock/reduce-stock tidak kehilangan update maupun oversell
+ * ketika satu buku diakses dari 64 thread sekaligus
+ * 
+ * Throughput skenario yang sama dilaporkan hanya jika -Dbenchmark=true:
+ * mvn test -Dtest=BookStockConcurrencyTest -Dbenchmark=true
+ */
+@SpringBootTest
+class BookStockConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void concurrentReductionsNeverOversell() throws Exception {
+        int initialStock = THREADS * OPERATIONS_PER_THREAD / 2;
+        BookResponse book = bookService.createBook(book("Flash Sale", "Testing", initialStock, 100000.0));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        hammer(() -> {
+            try {
+                bookService.reduceStock(book.getId(), 1);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        BookResponse result = bookService.getBookById(book.getId());
+        assertEquals(initialStock, succeeded.get());
+        assertEquals(THREADS * OPERATIONS_PER_THREAD - initialStock, rejected.get());
+        assertEquals(0, result.getStockQuantity());
+        assertEquals(Book.BookStatus.BORROWED, result.getStatus());
+    }
+
+    @Test
+    void concurrentAddAndReduceLoseNoUpdates() throws Exception {
+        int initialStock = THREADS * OPERATIONS_PER_THREAD;
+        BookResponse book = bookService.createBook(book("Hot Title", "Testing", initialStock, 100000.0));
+
+        AtomicInteger counter = new AtomicInteger();
+        hammer(() -> {
+            if (counter.incrementAndGet() % 2 == 0) {
+                bookService.addStock(book.getId(), 3);
+            } else {
+                bookService.reduceStock(book.getId(), 1);
+            }
+        });
+
+        int operations = THREADS * OPERATIONS_PER_THREAD;
+        int expected = initialStock + (operations / 2) * 3 - (operations - operations / 2);
+        assertEquals(expected, bookService.getBookById(book.getId()).getStockQuantity());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void reportsSingleBookThroughput() throws Exception {
+        BookResponse book = bookService.createBook(book("Flash Sale Benchmark", "Testing",
+                THREADS * OPERATIONS_PER_THREAD, 100000.0));
+        AtomicInteger counter = new AtomicInteger();
+        Runnable operation = () -> {
+            if (counter.incrementAndGet() % 2 == 0) {
+                bookService.addStock(book.getId(), 1);
+            } else {
+                bookService.reduceStock(book.getId(), 1);
+            }
+        };
+
+        // Pemanasan JIT dan pool koneksi
+        hammer(operation);
+        long elapsed = hammer(operation);
+
+        int operations = THREADS * OPERATIONS_PER_THREAD;
+        assertEquals(operations, bookService.getBookById(book.getId()).getStockQuantity());
+        System.out.printf("add/reduce-stock on one book: %d ops from %d threads in %d ms (%.0f ops/s)%n",
+                operations, THREADS, elapsed / 1_000_000, operations / (elapsed / 1_000_000_000.0));
+    }
+
+    /**
+     * Menjalankan operasi dari banyak thread yang dimulai bersamaan
+     * @return durasi dalam nanodetik
+     */
+    private long hammer(Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    operation.run();
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return elapsed;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.testuas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.testuas.index.BookIndexMaintainer;
+
+/**
+ * Memastikan generator katalog deterministik dan menghasilkan ISBN-13 yang valid
+ */
+@SpringBootTest
+class CatalogGeneratorTest {
+
+    private static final int BOOKS = 5_000;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void sameSeedProducesSameCatalog() {
+        catalogGenerator.generate(42, BOOKS);
+        List<String> first = snapshot();
+
+        catalogGenerator.generate(42, BOOKS);
+        assertEquals(first, snapshot());
+
+        catalogGenerator.generate(7, BOOKS);
+        assertNotEquals(first, snapshot());
+    }
+
+    @Test
+    void generatesValidIsbnAndSkewedStock() {
+        catalogGenerator.generate(42, BOOKS);
+
+        List<String> isbns = jdbcTemplate.queryForList("SELECT isbn FROM books", String.class);
+        assertEquals(BOOKS, isbns.size());
+        assertEquals(BOOKS, isbns.stream().distinct().count());
+        for (String isbn : isbns) {
+            assertEquals(13, isbn.length());
+            assertEquals(CatalogGenerator.isbn13CheckDigit(isbn), isbn.charAt(12) - '0');
+        }
+
+        Long outOfStock = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books WHERE stock_quantity = 0", Long.class);
+        Long lowStock = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books WHERE stock_quantity <= 5", Long.class);
+        assertTrue(outOfStock > 0 && lowStock > BOOKS / 4);
+
+        // Zipf: kategori paling populer jauh lebih sering muncul daripada yang paling jarang
+        List<Long> perCategory = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM books GROUP BY category ORDER BY COUNT(*) DESC", Long.class);
+        assertTrue(perCategory.get(0) > 5 * perCategory.get(perCategory.size() - 1));
+    }
+
+    private List<String> snapshot() {
+        return jdbcTemplate.queryForList("SELECT CONCAT_WS('|', id, title, author, isbn, publication_year, category, "
+                + "COALESCE(description, ''), stock_quantity, price, status) FROM books ORDER BY id", String.class);
+    }
+}
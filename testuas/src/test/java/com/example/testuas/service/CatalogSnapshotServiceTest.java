@@ -0,0 +1,78 @@
+package com.example.testuas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.testuas.index.BookIndexMaintainer;
+
+/**
+ * Profile persistent: schema dari db/schema.sql lolos validasi Hibernate,
+ * dan snapshot bisa dipulihkan ke file database lain
+ */
+@SpringBootTest(properties = "app.database.path=./target/h2/snapshot-test")
+@ActiveProfiles("persistent")
+class CatalogSnapshotServiceTest {
+
+    private static final int BOOKS = 2_000;
+    private static final Path SNAPSHOT = Path.of("target/h2/snapshot-test.zip");
+    private static final String RESTORED_URL = "jdbc:h2:file:./target/h2/snapshot-restored";
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void restoresSnapshotIntoAnotherDatabase() throws Exception {
+        catalogGenerator.generate(42, BOOKS);
+        String checksum = jdbcTemplate.queryForObject("SELECT SUM(stock_quantity) || ':' || MAX(isbn) FROM books",
+                String.class);
+
+        Files.deleteIfExists(SNAPSHOT);
+        catalogSnapshotService.createSnapshot(SNAPSHOT);
+        CatalogSnapshotService.restore(SNAPSHOT, RESTORED_URL);
+
+        try (Connection connection = DriverManager.getConnection(RESTORED_URL, "sa", "password");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT COUNT(*), SUM(stock_quantity) || ':' || MAX(isbn) FROM books")) {
+            resultSet.next();
+            assertEquals(BOOKS, resultSet.getInt(1));
+            assertEquals(checksum, resultSet.getString(2));
+        }
+    }
+
+    @Test
+    void rejectsNonFileDatabaseUrl() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogSnapshotService.databasePath("jdbc:h2:mem:testdb"));
+        assertEquals(Path.of("./data/testdb"),
+                CatalogSnapshotService.databasePath("jdbc:h2:file:./data/testdb;DB_CLOSE_ON_EXIT=FALSE"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.repository.BookRepository;
+
+/**
+ * Pencarian keyword lewat KeywordIndex harus sama dengan pencocokan prefix token terhadap isi database,
+ * termasuk keyword yang cocok dengan lebih dari ID_CHUNK_SIZE buku, dan mengikuti create/update/delete
+ */
+@SpringBootTest
+class KeywordSearchTest {
+
+    private static final int BOOKS = 20_000;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void keywordIndexMatchesTokenPrefixesInDatabase() {
+        catalogGenerator.generate(42, BOOKS);
+        bookIndexMaintainer.rebuild();
+        List<BookSummary> catalog = bookRepository.findAllSummaries();
+
+        for (String keyword : List.of("fiction", "pem", "Sejarah Jaw", "dewi prat", "self dev")) {
+            List<Long> expected = catalog.stream()
+                    .filter(book -> matchesTokenPrefixes(book, keyword))
+                    .map(BookSummary::id)
+                    .sorted()
+                    .toList();
+            assertFalse(expected.isEmpty(), keyword);
+            assertEquals(expected, ids(bookService.searchBooks(keyword)), keyword);
+        }
+        assertTrue(ids(bookService.searchBooks("fiction")).size() > 1000);
+
+        // Fallback LIKE mencocokkan substring di mana saja, index hanya awal token
+        List<Long> like = ids(bookRepository.searchSummariesByKeyword("pem"));
+        assertTrue(like.containsAll(ids(bookService.searchBooks("pem"))));
+        assertFalse(bookRepository.searchSummariesByKeyword("rogram").isEmpty());
+        assertEquals(List.of(), bookService.searchBooks("rogram"));
+    }
+
+    @Test
+    void reflectsWritesThroughBookService() {
+        BookResponse created = bookService.createBook(book("Zarathustra Berkata", "KeywordIndex"));
+        assertEquals(List.of(created.getId()), ids(bookService.searchBooks("zarath")));
+
+        bookService.updateBook(created.getId(), book("Nietzsche Berkata", "KeywordIndex"));
+        assertEquals(List.of(), bookService.searchBooks("zarath"));
+        assertEquals(List.of(created.getId()), ids(bookService.searchBooks("nietzsche berk")));
+
+        bookService.deleteBook(created.getId());
+        assertEquals(List.of(), bookService.searchBooks("nietzsche"));
+    }
+
+    private static boolean matchesTokenPrefixes(BookSummary book, String keyword) {
+        List<String> tokens = tokens(Objects.toString(book.title(), "") + " "
+                + Objects.toString(book.author(), "") + " " + Objects.toString(book.category(), ""));
+        return tokens(keyword).stream().allMatch(query -> tokens.stream().anyMatch(token -> token.startsWith(query)));
+    }
+
+    private static List<String> tokens(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private static List<Long> ids(List<BookSummary> books) {
+        return books.stream().map(BookSummary::id).toList();
+    }
+}
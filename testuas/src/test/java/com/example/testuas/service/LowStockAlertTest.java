@@ -0,0 +1,217 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.dto.BookSummary;
+import com.example.testuas.dto.CursorPage;
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.index.BookSnapshot;
+import com.example.testuas.index.LowStockIndex;
+import com.example.testuas.repository.BookRepository;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Daftar stok rendah dari LowStockIndex sama dengan query database untuk threshold default,
+ * threshold per kategori berlaku, dan alert hanya dikirim saat threshold dilewati
+ */
+@SpringBootTest(properties = "app.low-stock.category-thresholds=LowStockAlert:10")
+class LowStockAlertTest {
+
+    private static final int BOOKS = 5_000;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LowStockIndex lowStockIndex;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void lowStockIndexMatchesDatabaseQuery() {
+        catalogGenerator.generate(42, BOOKS);
+        bookIndexMaintainer.rebuild();
+
+        List<Long> expected = bookRepository.findLowStockSummaries().stream()
+                .sorted(Comparator.comparing(BookSummary::stockQuantity).thenComparing(BookSummary::id))
+                .map(BookSummary::id)
+                .toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, bookService.getBooksWithLowStock().stream().map(BookSummary::id).toList());
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookSummary> page = bookService.getBooksWithLowStockPage(cursor, 100);
+            page.getItems().forEach(book -> paged.add(book.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void alertsOnlyWhenCategoryThresholdIsCrossed() {
+        BookResponse created = bookService.createBook(book("Low Stock Alert", "LowStockAlert", 20, 30000.0));
+        assertFalse(isLowStock(created.getId()));
+
+        bookService.reduceStock(created.getId(), 5);
+        assertFalse(isLowStock(created.getId()));
+        assertEquals(0.0, alerts("LOW_STOCK"));
+
+        // Threshold kategori LowStockAlert = 10, bukan default 5
+        bookService.reduceStock(created.getId(), 7);
+        assertTrue(isLowStock(created.getId()));
+        assertEquals(1.0, alerts("LOW_STOCK"));
+
+        bookService.reduceStock(created.getId(), 1);
+        assertEquals(1.0, alerts("LOW_STOCK"));
+
+        bookService.addStock(created.getId(), 10);
+        assertFalse(isLowStock(created.getId()));
+        assertEquals(1.0, alerts("RESTOCKED"));
+    }
+
+    @Test
+    void slowWebhookTimesOutAndOverflowIsDropped() throws Exception {
+        // Webhook yang tidak pernah menjawab sampai test selesai
+        CountDownLatch stalled = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                stalled.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LowStockAlertPublisher publisher = new LowStockAlertPublisher(lowStockIndex, RestClient.builder(), registry,
+                "http://localhost:" + server.getAddress().getPort() + "/hooks/low-stock",
+                Duration.ofMillis(500), Duration.ofMillis(200), 2, 10, Duration.ofMinutes(1));
+        try {
+            BookSnapshot before = new BookSnapshot(1L, "Webhook Lambat", "Penulis Uji", null, null, "WebhookLambat",
+                    20, 50000.0, Book.BookStatus.AVAILABLE);
+            for (int i = 0; i < 10; i++) {
+                publisher.onChange(before, before.withStock(1));
+            }
+            // Satu alert sedang dikirim, dua antre, sisanya dibuang
+            assertEquals(7.0, registry.counter("book.low-stock.alerts.dropped").count());
+
+            // Read timeout membuat ketiga alert gagal dalam waktu terbatas, bukan menunggu webhook
+            publisher.shutdown();
+            assertEquals(3.0, registry.counter("book.low-stock.webhook.failures").count());
+        } finally {
+            stalled.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void slowSubscriberIsDisconnectedWithoutBlockingOthers() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch slowBlocked = new CountDownLatch(1);
+        CountDownLatch slowCompleted = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(5);
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                slowBlocked.countDown();
+                try {
+                    unblock.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public synchronized void complete() {
+                slowCompleted.countDown();
+                super.complete();
+            }
+        };
+        SseEmitter fast = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                fastReceived.countDown();
+            }
+        };
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LowStockAlertPublisher publisher = new LowStockAlertPublisher(lowStockIndex, RestClient.builder(), registry,
+                "", Duration.ofMillis(500), Duration.ofMillis(200), 2, 2, Duration.ofMinutes(1));
+        try {
+            publisher.subscribe(slow);
+            publisher.subscribe(fast);
+            BookSnapshot before = new BookSnapshot(1L, "Subscriber Lambat", "Penulis Uji", null, null,
+                    "SubscriberLambat", 20, 50000.0, Book.BookStatus.AVAILABLE);
+
+            publisher.onChange(before, before.withStock(1));
+            assertTrue(slowBlocked.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 4; i++) {
+                publisher.onChange(before, before.withStock(1));
+            }
+
+            // Subscriber cepat menerima semua alert; subscriber lambat ditutup begitu antreannya (2) penuh
+            assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+            assertTrue(slowCompleted.await(5, TimeUnit.SECONDS));
+            assertEquals(1.0, registry.counter("book.low-stock.subscribers.dropped").count());
+            assertEquals(0.0, registry.counter("book.low-stock.alerts.dropped").count());
+        } finally {
+            unblock.countDown();
+            publisher.shutdown();
+        }
+    }
+
+    private boolean isLowStock(Long id) {
+        return bookService.getBooksWithLowStock().stream().anyMatch(book -> book.id().equals(id));
+    }
+
+    private double alerts(String type) {
+        Counter counter = meterRegistry.find("book.low-stock.alerts").tag("type", type).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.testuas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Panggilan identik yang bersamaan hanya menjalankan loader sekali, baik di platform thread maupun virtual thread
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    @Test
+    void coalescesConcurrentCallsOnVirtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertCoalesced(executor);
+        }
+    }
+
+    @Test
+    void coalescesConcurrentCallsOnPlatformThreads() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            assertCoalesced(executor);
+        }
+    }
+
+    @Test
+    void sharesFailureAndReleasesKey() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight singleFlight = new SingleFlight(registry, true);
+
+        assertThrows(IllegalArgumentException.class, () -> singleFlight.execute("search", "x", () -> {
+            throw new IllegalArgumentException("gagal");
+        }));
+        // Key sudah dilepas, panggilan berikutnya dieksekusi ulang
+        assertEquals("ok", singleFlight.execute("search", "x", () -> "ok"));
+        assertEquals(2.0, count(registry, "search", "executed"));
+    }
+
+    private static void assertCoalesced(ExecutorService executor) throws InterruptedException, ExecutionException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight singleFlight = new SingleFlight(registry, true);
+        AtomicInteger executions = new AtomicInteger();
+
+        // Eksekusi pertama baru selesai setelah semua pemanggil lain ikut menunggu
+        Supplier<List<String>> loader = () -> {
+            executions.incrementAndGet();
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (count(registry, "search", "coalesced") < CALLERS - 1 && System.nanoTime() < deadline) {
+                sleep();
+            }
+            return List.of("hasil");
+        };
+
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("search", "keyword", loader)));
+        }
+        List<String> first = results.get(0).get();
+        for (Future<List<String>> result : results) {
+            assertSame(first, result.get());
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1.0, count(registry, "search", "executed"));
+        assertEquals(CALLERS - 1.0, count(registry, "search", "coalesced"));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double count(MeterRegistry registry, String operation, String result) {
+        Counter counter = registry.find("book.singleflight.calls")
+                .tag("operation", operation)
+                .tag("result", result)
+                .counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
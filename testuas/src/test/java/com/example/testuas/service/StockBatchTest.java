@@ -0,0 +1,87 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.example.testuas.dto.StockAdjustmentRequest;
+import com.example.testuas.dto.StockAdjustmentResult;
+import com.example.testuas.repository.BookStockRepository;
+
+/**
+ * Penyesuaian stok batch: item gagal hanya menggagalkan item itu, stok berjalan berlanjut
+ * antar chunk, dan chunk yang gagal di database menandai semua itemnya gagal tanpa menghentikan batch
+ */
+@SpringBootTest(properties = "app.stock.batch-chunk-size=3")
+class StockBatchTest {
+
+    private static final long UNKNOWN_ID = 999_999_999L;
+
+    @Autowired
+    private BookService bookService;
+
+    @MockitoSpyBean
+    private BookStockRepository bookStockRepository;
+
+    @Test
+    void failedItemsDoNotAffectOtherItems() {
+        Long first = bookService.createBook(book("Stok Batch Satu", "StockBatch")).getId();
+        Long second = bookService.createBook(book("Stok Batch Dua", "StockBatch")).getId();
+
+        List<StockAdjustmentResult> results = bookService.adjustStockBatch(List.of(
+                new StockAdjustmentRequest(first, -1),
+                new StockAdjustmentRequest(UNKNOWN_ID, 1),
+                new StockAdjustmentRequest(second, -10),
+                new StockAdjustmentRequest(first, -1),
+                new StockAdjustmentRequest(null, 1),
+                new StockAdjustmentRequest(first, 5)));
+
+        assertEquals(List.of(true, false, false, true, false, true),
+                results.stream().map(StockAdjustmentResult::isSuccess).toList());
+        assertEquals(2, results.get(0).getStockQuantity());
+        assertTrue(results.get(1).getMessage().startsWith("Buku tidak ditemukan"));
+        assertTrue(results.get(2).getMessage().startsWith("Stok tidak mencukupi"));
+        // Item yang sama di chunk berikutnya melanjutkan dari stok hasil chunk sebelumnya
+        assertEquals(1, results.get(3).getStockQuantity());
+        assertEquals(6, results.get(5).getStockQuantity());
+
+        assertEquals(6, bookService.getBookById(first).getStockQuantity());
+        assertEquals(3, bookService.getBookById(second).getStockQuantity());
+    }
+
+    @Test
+    void failedChunkIsReportedAndBatchContinues() {
+        Long first = bookService.createBook(book("Stok Chunk Satu", "StockBatch")).getId();
+        Long locked = bookService.createBook(book("Stok Chunk Terkunci", "StockBatch")).getId();
+        Long last = bookService.createBook(book("Stok Chunk Terakhir", "StockBatch")).getId();
+        doThrow(new CannotAcquireLockException("Lock timeout"))
+                .when(bookStockRepository).setStock(argThat((Map<Long, Integer> stock) -> stock.containsKey(locked)));
+
+        List<StockAdjustmentResult> results = bookService.adjustStockBatch(List.of(
+                new StockAdjustmentRequest(first, -1),
+                new StockAdjustmentRequest(locked, -1),
+                new StockAdjustmentRequest(first, -1),
+                new StockAdjustmentRequest(last, 1)));
+
+        assertEquals(List.of(false, false, false, true),
+                results.stream().map(StockAdjustmentResult::isSuccess).toList());
+        assertEquals(List.of(first, locked, first, last), results.stream().map(StockAdjustmentResult::getId).toList());
+        assertTrue(results.get(0).getMessage().startsWith("Chunk gagal disimpan"));
+
+        // Chunk pertama di-rollback seluruhnya
+        assertEquals(3, bookService.getBookById(first).getStockQuantity());
+        assertEquals(3, bookService.getBookById(locked).getStockQuantity());
+        assertEquals(4, bookService.getBookById(last).getStockQuantity());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.testuas.service;
+
+import static com.example.testuas.BookFixtures.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.testuas.dto.BookRequest;
+import com.example.testuas.dto.BookResponse;
+import com.example.testuas.entity.Book;
+import com.example.testuas.index.BookIndexMaintainer;
+import com.example.testuas.index.TrigramIndex;
+import com.example.testuas.repository.BookRepository;
+
+/**
+ * Pencarian judul/penulis lewat TrigramIndex harus sama dengan query LIKE (fallback),
+ * kandidat trigram selalu mencakup semua hasil LIKE, dan index mengikuti update/delete
+ */
+@SpringBootTest
+class TrigramSearchTest {
+
+    private static final int BOOKS = 20_000;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TrigramIndex trigramIndex;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private BookIndexMaintainer bookIndexMaintainer;
+
+    @AfterEach
+    void rebuildIndexes() {
+        bookIndexMaintainer.rebuild();
+    }
+
+    @Test
+    void trigramIndexMatchesLikeQuery() {
+        catalogGenerator.generate(42, BOOKS);
+        bookIndexMaintainer.rebuild();
+
+        for (String title : List.of("jalan", "AH H", "ngit", "a s")) {
+            List<Long> expected = ids(bookRepository.findByTitleContainingIgnoreCase(title));
+            assertFalse(expected.isEmpty(), title);
+            assertTrue(candidates(trigramIndex.titleCandidates(title)).containsAll(expected), title);
+            assertEquals(expected, responseIds(bookService.getBooksByTitle(title)), title);
+        }
+        for (String author : List.of("Pratama", "i S", "DEWI")) {
+            List<Long> expected = ids(bookRepository.findByAuthorContainingIgnoreCase(author));
+            assertFalse(expected.isEmpty(), author);
+            assertTrue(candidates(trigramIndex.authorCandidates(author)).containsAll(expected), author);
+            assertEquals(expected, responseIds(bookService.getBooksByAuthor(author)), author);
+        }
+        assertEquals(ids(bookRepository.findByTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase("hujan", "wijaya")),
+                responseIds(bookService.getBooksByTitleAndAuthor("hujan", "wijaya")));
+    }
+
+    @Test
+    void reflectsUpdatesAndDeletes() {
+        BookRequest request = book("Quetzalcoatl Terbang", "TrigramIndex");
+        request.setAuthor("Xochitl Penulis");
+        BookResponse created = bookService.createBook(request);
+        assertEquals(List.of(created.getId()), responseIds(bookService.getBooksByTitle("etzalco")));
+        assertEquals(List.of(created.getId()), responseIds(bookService.getBooksByAuthor("xochi")));
+
+        BookRequest renamed = book("Tezcatlipoca Terbang", "TrigramIndex");
+        renamed.setAuthor("Xochitl Penulis");
+        bookService.updateBook(created.getId(), renamed);
+        assertEquals(List.of(), bookService.getBooksByTitle("etzalco"));
+        assertEquals(0, trigramIndex.titleCandidates("etzalco").length);
+        assertEquals(List.of(created.getId()), responseIds(bookService.getBooksByTitle("zcatli")));
+
+        bookService.deleteBook(created.getId());
+        assertEquals(List.of(), bookService.getBooksByTitle("zcatli"));
+        assertEquals(0, trigramIndex.authorCandidates("xochi").length);
+    }
+
+    private static Set<Long> candidates(int[] ids) {
+        return Arrays.stream(ids).asLongStream().boxed().collect(Collectors.toSet());
+    }
+
+    private static List<Long> ids(List<Book> books) {
+        return books.stream().map(Book::getId).sorted().toList();
+    }
+
+    private static List<Long> responseIds(List<BookResponse> books) {
+        return books.stream().map(BookResponse::getId).toList();
+    }
+}